@@ -0,0 +1,185 @@
+// 읽기/쓰기 혼합 워크로드. DataSeeder 로 채운 DB(회원 lt{번호} / loadtest1234)를 대상으로 한다.
+// TARGET, RATE(전체 초당 요청), DURATION_SECONDS, USERS(토큰을 받아 둘 회원 수) 환경 변수로 조정
+// LOGIN_STORM=true 이면 중간 1/3 구간에 로그인 폭주(LOGIN_RATE/초)를 겹쳐 읽기 지연이 유지되는지 본다
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.TARGET || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 500);
+const DURATION_SECONDS = Number(__ENV.DURATION_SECONDS || 180);
+const USERS = Number(__ENV.USERS || 50);
+const LOGIN_STORM = __ENV.LOGIN_STORM === 'true';
+const LOGIN_RATE = Number(__ENV.LOGIN_RATE || 200);
+const PASSWORD = 'loadtest1234';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+const STORM_START = Math.floor(DURATION_SECONDS / 3);
+const STORM_SECONDS = Math.floor(DURATION_SECONDS / 3);
+
+// 운영 트래픽 비율을 흉내 낸 요청 구성 (가중치 합 100)
+const OPERATIONS = [
+  { name: 'list', kind: 'read', weight: 35, run: list },
+  { name: 'detail', kind: 'read', weight: 25, run: detail },
+  { name: 'comments', kind: 'read', weight: 15, run: comments },
+  { name: 'tag_filter', kind: 'read', weight: 8, run: tagFilter },
+  { name: 'search', kind: 'read', weight: 4, run: search },
+  { name: 'my_posts', kind: 'read', weight: 4, run: myPosts },
+  { name: 'create_comment', kind: 'write', weight: 5, run: createComment },
+  { name: 'create_post', kind: 'write', weight: 2, run: createPost },
+  { name: 'update_status', kind: 'write', weight: 2, run: updateStatus },
+];
+
+const scenarios = {
+  mixed: {
+    executor: 'constant-arrival-rate',
+    exec: 'mixed',
+    rate: RATE,
+    timeUnit: '1s',
+    duration: `${DURATION_SECONDS}s`,
+    preAllocatedVUs: 200,
+    maxVUs: 2000,
+  },
+};
+if (LOGIN_STORM) {
+  scenarios.login_storm = {
+    executor: 'constant-arrival-rate',
+    exec: 'login',
+    rate: LOGIN_RATE,
+    timeUnit: '1s',
+    startTime: `${STORM_START}s`,
+    duration: `${STORM_SECONDS}s`,
+    preAllocatedVUs: 200,
+    maxVUs: 2000,
+  };
+}
+
+// 항상 통과하는 임계값: 요청 종류/구간별 지표를 요약에 따로 출력하기 위함
+const thresholds = {
+  'http_req_duration{kind:read,phase:calm}': ['p(99)>=0'],
+  'http_req_duration{kind:read,phase:storm}': ['p(99)>=0'],
+  'http_req_duration{kind:write}': ['p(99)>=0'],
+  'http_req_duration{endpoint:login}': ['p(99)>=0'],
+  'http_reqs{endpoint:login,status:503}': ['count>=0'],
+};
+OPERATIONS.forEach((op) => {
+  thresholds[`http_req_duration{endpoint:${op.name}}`] = ['p(99)>=0'];
+  thresholds[`http_reqs{endpoint:${op.name}}`] = ['count>=0'];
+});
+
+export const options = {
+  scenarios,
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds,
+};
+
+export function setup() {
+  const tokens = [];
+  for (let i = 0; i < USERS; i++) {
+    const res = http.post(`${BASE_URL}/api/v1/members/login`,
+      JSON.stringify({ nickname: `lt${i}`, password: PASSWORD }), { headers: JSON_HEADERS });
+    if (res.status === 200) {
+      tokens.push(res.json('data.accessToken'));
+    }
+  }
+  if (tokens.length === 0) {
+    throw new Error('로그인 실패: DataSeeder 로 데이터를 먼저 생성하세요');
+  }
+  const auth = { headers: { Authorization: `Bearer ${tokens[0]}` } };
+  const maxPostId = http.get(`${BASE_URL}/api/v1/posts?size=1`, auth).json('data.content.0.id');
+  const tagIds = http.get(`${BASE_URL}/api/v1/tags`, auth).json('data').map((tag) => tag.id);
+  return { tokens, maxPostId, tagIds, startedAt: Date.now() };
+}
+
+export function mixed(data) {
+  let roll = Math.random() * 100;
+  const op = OPERATIONS.find((candidate) => (roll -= candidate.weight) < 0) || OPERATIONS[0];
+  const token = data.tokens[Math.floor(Math.random() * data.tokens.length)];
+  const params = {
+    headers: { ...JSON_HEADERS, Authorization: `Bearer ${token}` },
+    tags: { endpoint: op.name, kind: op.kind, phase: phase(data) },
+  };
+  op.run(data, params);
+}
+
+export function login() {
+  const nickname = `lt${Math.floor(Math.random() * USERS)}`;
+  const res = http.post(`${BASE_URL}/api/v1/members/login`,
+    JSON.stringify({ nickname, password: PASSWORD }),
+    { headers: JSON_HEADERS, tags: { endpoint: 'login' } });
+  // 해시 큐가 가득 차면 503 + Retry-After 로 빠르게 거절하는 것이 정상 동작
+  check(res, { 'login 200/503': (r) => r.status === 200 || r.status === 503 });
+}
+
+function phase(data) {
+  if (!LOGIN_STORM) {
+    return 'calm';
+  }
+  const elapsed = (Date.now() - data.startedAt) / 1000;
+  return elapsed >= STORM_START && elapsed < STORM_START + STORM_SECONDS ? 'storm' : 'calm';
+}
+
+function randomPostId(data) {
+  // 최근 글에 트래픽이 몰리도록 최신 id 쪽으로 치우친 분포
+  return Math.max(1, data.maxPostId - Math.floor(data.maxPostId * Math.pow(Math.random(), 3)));
+}
+
+function randomTagId(data) {
+  return data.tagIds[Math.floor(Math.random() * data.tagIds.length)];
+}
+
+function ok(res, name) {
+  // 시드 데이터에는 삭제된 글이 없지만 워크로드 도중 삭제될 수 있어 404 는 허용
+  check(res, { [`${name} ok`]: (r) => r.status === 200 || r.status === 404 });
+}
+
+function list(data, params) {
+  const page = Math.floor(Math.pow(Math.random(), 2) * 20);
+  ok(http.get(`${BASE_URL}/api/v1/posts?page=${page}&size=10`, params), 'list');
+}
+
+function detail(data, params) {
+  ok(http.get(`${BASE_URL}/api/v1/posts/${randomPostId(data)}`, params), 'detail');
+}
+
+function comments(data, params) {
+  ok(http.get(`${BASE_URL}/api/v1/posts/${randomPostId(data)}/comments/scroll?size=20`, params), 'comments');
+}
+
+function tagFilter(data, params) {
+  ok(http.get(`${BASE_URL}/api/v1/posts?tagIds=${randomTagId(data)}&size=10`, params), 'tag_filter');
+}
+
+function search(data, params) {
+  const keywords = ['spring', 'index', 'cache', 'thread', 'docker'];
+  const keyword = keywords[Math.floor(Math.random() * keywords.length)];
+  ok(http.get(`${BASE_URL}/api/v1/posts?keyword=${keyword}&size=10`, params), 'search');
+}
+
+function myPosts(data, params) {
+  ok(http.get(`${BASE_URL}/api/v1/posts/me/scroll?size=10`, params), 'my_posts');
+}
+
+function createComment(data, params) {
+  const body = JSON.stringify({ content: `load test comment ${Date.now()}` });
+  ok(http.post(`${BASE_URL}/api/v1/posts/${randomPostId(data)}/comments`, body, params), 'create_comment');
+}
+
+function createPost(data, params) {
+  const body = JSON.stringify({
+    title: `load test post ${Date.now()}`,
+    content: 'load test content '.repeat(30),
+    tagIds: [randomTagId(data)],
+  });
+  ok(http.post(`${BASE_URL}/api/v1/posts`, body, params), 'create_post');
+}
+
+function updateStatus(data, params) {
+  // 작성자가 아니면 403 이므로 자기 글 하나를 골라 상태를 바꾼다
+  const mine = http.get(`${BASE_URL}/api/v1/posts/me/scroll?size=1`, { headers: params.headers });
+  const postId = mine.json('data.content.0.id');
+  if (!postId) {
+    return;
+  }
+  const body = JSON.stringify({ status: Math.random() < 0.5 ? 'SOLVED' : 'UNSOLVED' });
+  ok(http.patch(`${BASE_URL}/api/v1/posts/${postId}/status`, body, params), 'update_status');
+}
@@ -0,0 +1,75 @@
+// 게시글 목록 / 상세 엔드포인트 처리량과 p99 지연 측정
+// TARGET, RATE(초당 요청, 시나리오별), DURATION 환경 변수로 조정
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.TARGET || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 300);
+const DURATION = __ENV.DURATION || '60s';
+const POSTS = 200;
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+function scenario(exec) {
+  return {
+    executor: 'constant-arrival-rate',
+    exec,
+    rate: RATE,
+    timeUnit: '1s',
+    duration: DURATION,
+    preAllocatedVUs: 200,
+    maxVUs: 2000,
+  };
+}
+
+export const options = {
+  scenarios: {
+    list: scenario('list'),
+    detail: scenario('detail'),
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  // 항상 통과하는 임계값: 엔드포인트별 지표를 요약에 따로 출력하기 위함
+  thresholds: {
+    'http_req_duration{endpoint:list}': ['p(99)>=0'],
+    'http_req_duration{endpoint:detail}': ['p(99)>=0'],
+    'http_reqs{endpoint:list}': ['count>=0'],
+    'http_reqs{endpoint:detail}': ['count>=0'],
+  },
+};
+
+export function setup() {
+  const nickname = `bench${String(Date.now()).slice(-8)}`;
+  const credentials = JSON.stringify({ nickname, password: 'bench1234' });
+  http.post(`${BASE_URL}/api/v1/members/signup`, credentials, { headers: JSON_HEADERS });
+  const token = http.post(`${BASE_URL}/api/v1/members/login`, credentials, { headers: JSON_HEADERS })
+    .json('data.accessToken');
+
+  const headers = { ...JSON_HEADERS, Authorization: `Bearer ${token}` };
+  const ids = [];
+  for (let i = 0; i < POSTS; i++) {
+    const body = JSON.stringify({
+      title: `bench post ${i}`,
+      content: `benchmark content ${i} `.repeat(100),
+      tagIds: [1 + (i % 22)],
+    });
+    ids.push(http.post(`${BASE_URL}/api/v1/posts`, body, { headers }).json('data.id'));
+  }
+  return { ids, token };
+}
+
+// 게시글 API 는 인증이 필요하므로 setup 에서 받은 토큰을 보낸다
+function auth(data) {
+  return { Authorization: `Bearer ${data.token}` };
+}
+
+export function list(data) {
+  const page = Math.floor(Math.random() * 10);
+  const res = http.get(`${BASE_URL}/api/v1/posts?page=${page}&size=10`,
+    { headers: auth(data), tags: { endpoint: 'list' } });
+  check(res, { 'list 200': (r) => r.status === 200 });
+}
+
+export function detail(data) {
+  const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const res = http.get(`${BASE_URL}/api/v1/posts/${id}`, { headers: auth(data), tags: { endpoint: 'detail' } });
+  check(res, { 'detail 200': (r) => r.status === 200 });
+}
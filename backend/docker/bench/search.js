@@ -0,0 +1,65 @@
+// 키워드 검색의 FULLTEXT(ngram) 경로와 LIKE 경로 비교. DataSeeder 로 채운 DB(회원 lt{번호} / loadtest1234)를 대상으로 한다.
+// 같은 데이터에 FULLTEXT 인스턴스(backend-platform)와 LIKE 인스턴스(backend-like, POST_SEARCH_FULLTEXT=false)를
+// 번갈아 TARGET 으로 지정해 실행하고, 10만/100만 건 시드에서 각각 비교한다
+// TARGET, RATE(초당 요청), DURATION 환경 변수로 조정
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.TARGET || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 50);
+const DURATION = __ENV.DURATION || '60s';
+const PASSWORD = 'loadtest1234';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+// 시드 어휘는 20 단어라 단어 하나는 거의 모든 글에 나온다.
+// common: 대부분의 글과 일치 / phrase: 연속 두 단어로 일치 건수가 적음 / miss: 어떤 글과도 일치하지 않음
+const KEYWORDS = [
+  { kind: 'common', keyword: 'spring' },
+  { kind: 'common', keyword: 'docker' },
+  { kind: 'phrase', keyword: 'spring cache' },
+  { kind: 'phrase', keyword: 'index lock' },
+  { kind: 'miss', keyword: 'kubernetes' },
+  { kind: 'miss', keyword: 'graphql' },
+];
+
+const thresholds = {};
+['common', 'phrase', 'miss'].forEach((kind) => {
+  // 항상 통과하는 임계값: 키워드 종류별 지표를 요약에 따로 출력하기 위함
+  thresholds[`http_req_duration{kind:${kind}}`] = ['p(99)>=0'];
+  thresholds[`http_reqs{kind:${kind}}`] = ['count>=0'];
+});
+
+export const options = {
+  scenarios: {
+    search: {
+      executor: 'constant-arrival-rate',
+      exec: 'search',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 100,
+      maxVUs: 1000,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds,
+};
+
+export function setup() {
+  const res = http.post(`${BASE_URL}/api/v1/members/login`,
+    JSON.stringify({ nickname: 'lt0', password: PASSWORD }), { headers: JSON_HEADERS });
+  if (res.status !== 200) {
+    throw new Error('로그인 실패: DataSeeder 로 데이터를 먼저 생성하세요');
+  }
+  return { token: res.json('data.accessToken') };
+}
+
+export function search(data) {
+  const { kind, keyword } = KEYWORDS[Math.floor(Math.random() * KEYWORDS.length)];
+  const page = Math.floor(Math.random() * 5);
+  const res = http.get(`${BASE_URL}/api/v1/posts?keyword=${encodeURIComponent(keyword)}&page=${page}&size=10`, {
+    headers: { Authorization: `Bearer ${data.token}` },
+    tags: { endpoint: 'search', kind },
+  });
+  check(res, { 'search 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,104 @@
+package rewviewjom.backend.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 경로 비교.
+ * legacy: 요청마다 파서를 두 번 만들고 서명을 두 번 검증하던 이전 방식
+ * current: 미리 만든 파서 + 검증 캐시를 쓰는 JwtAuthenticationFilter
+ *
+ * ./gradlew jmh -PjmhIncludes=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "cmV2aWV3ampvbS1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tZ2VuZXJhdGlvbi0yMDI0";
+
+    private Key key;
+    private String token;
+    private JwtAuthenticationFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(meterRegistry, SECRET, 3_600_000L, 10_000L);
+        token = jwtTokenProvider.createToken(1L);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, meterRegistry);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object legacy() {
+        MockHttpServletRequest request = authorizedRequest();
+        if (legacyValidateToken(token)) {
+            Long memberId = legacyGetMemberId(token);
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(memberId, null, Collections.emptyList()));
+            request.setAttribute("memberId", memberId);
+        }
+        return request.getAttribute("memberId");
+    }
+
+    @Benchmark
+    public Object current() throws Exception {
+        MockHttpServletRequest request = authorizedRequest();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request.getAttribute("memberId");
+    }
+
+    private MockHttpServletRequest authorizedRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private boolean legacyValidateToken(String token) {
+        try {
+            Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private Long legacyGetMemberId(String token) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return Long.parseLong(claims.getSubject());
+    }
+}
@@ -0,0 +1,51 @@
+package rewviewjom.backend.global.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급과 검증 비용.
+ * verifiedCacheSize=0 이면 검증 결과가 바로 축출되어 매 호출마다 서명을 검증한다.
+ *
+ * ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "cmV2aWV3ampvbS1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tZ2VuZXJhdGlvbi0yMDI0";
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET, 3_600_000L, verifiedCacheSize);
+        token = jwtTokenProvider.createToken(1L);
+    }
+
+    @Benchmark
+    public String create() {
+        return jwtTokenProvider.createToken(1L);
+    }
+
+    @Benchmark
+    public Optional<Long> verify() {
+        return jwtTokenProvider.getVerifiedMemberId(token);
+    }
+}
@@ -0,0 +1,75 @@
+package rewviewjom.backend.global.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import rewviewjom.backend.member.application.dto.MemberResponse;
+import rewviewjom.backend.post.application.dto.PostListResponse;
+import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.tag.application.dto.TagResponse;
+import rewviewjom.backend.tag.domain.TagCategory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 목록 응답(ApiResponse + PageResponse) 직렬화 비용.
+ * Spring Boot 와 같은 기본 설정의 ObjectMapper 로 바이트 배열까지 쓴다.
+ *
+ * ./gradlew jmh -PjmhIncludes=ApiResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PageResponse<PostListResponse>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        MemberResponse member = MemberResponse.builder()
+                .id(1L)
+                .nickname("writer")
+                .createdAt(now)
+                .build();
+        List<PostListResponse> content = IntStream.range(0, pageSize)
+                .mapToObj(i -> PostListResponse.builder()
+                        .id((long) i)
+                        .title("title" + i)
+                        .excerpt("excerpt ".repeat(20))
+                        .status(PostStatus.UNSOLVED)
+                        .commentCount(i % 7)
+                        .member(member)
+                        .tags(List.of(
+                                TagResponse.builder().id(1L).name("Java").category(TagCategory.LANGUAGE).build(),
+                                TagResponse.builder().id(2L).name("Spring").category(TagCategory.FRAMEWORK).build()))
+                        .updatedAt(now)
+                        .build())
+                .toList();
+        response = ApiResponse.success(PageResponse.from(new PageImpl<>(content, PageRequest.of(0, pageSize), 1_000)));
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,87 @@
+package rewviewjom.backend.post.application.dto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import rewviewjom.backend.member.domain.Member;
+import rewviewjom.backend.post.domain.Post;
+import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.post.domain.repository.PostSummary;
+import rewviewjom.backend.tag.application.dto.TagResponse;
+import rewviewjom.backend.tag.domain.TagCategory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 게시글 응답 DTO 조립 비용.
+ * list: 목록 한 페이지(PostSummary + 태그) 를 PostListResponse 로 변환
+ * detail: 엔티티 한 건을 PostResponse 로 변환
+ *
+ * ./gradlew jmh -PjmhIncludes=PostResponseAssemblyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostResponseAssemblyBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private List<PostSummary> summaries;
+    private List<List<TagResponse>> tagsPerPost;
+    private Post post;
+    private List<TagResponse> postTags;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        summaries = IntStream.range(0, pageSize)
+                .mapToObj(i -> new PostSummary((long) i, "title" + i, "excerpt ".repeat(20), PostStatus.UNSOLVED,
+                        i % 7, now, 1L, "writer", null, now))
+                .toList();
+        tagsPerPost = IntStream.range(0, pageSize)
+                .mapToObj(i -> tags(1 + i % 3))
+                .toList();
+
+        post = Post.builder()
+                .member(Member.builder().nickname("writer").password("password").build())
+                .title("title")
+                .content("content ".repeat(200))
+                .build();
+        postTags = tags(3);
+    }
+
+    @Benchmark
+    public List<PostListResponse> list() {
+        List<PostListResponse> responses = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            responses.add(PostListResponse.of(summaries.get(i), tagsPerPost.get(i)));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public PostResponse detail() {
+        return PostResponse.from(post, postTags);
+    }
+
+    private static List<TagResponse> tags(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> TagResponse.builder()
+                        .id((long) i)
+                        .name("tag" + i)
+                        .category(TagCategory.LANGUAGE)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,350 @@
+package rewviewjom.backend.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 합성 데이터 생성기.
+ * 애플리케이션을 한 번 띄워 스키마와 태그를 만든 뒤 실행하고, 실행 후에는 애플리케이션을 재시작해
+ * 시퀀스(IdSequenceAligner), 비트맵 인덱스와 캐시를 새 데이터에 맞춘다.
+ *
+ * ./gradlew loadtestSeed -Pseed.members=100000 -Pseed.posts=1000000 -Pseed.comments=10000000
+ *
+ * 회원 닉네임은 lt{번호}, 비밀번호는 모두 loadtest1234 이다.
+ */
+public class DataSeeder {
+
+    static final String PASSWORD = "loadtest1234";
+
+    private static final String[] WORDS = {
+            "spring", "jpa", "query", "index", "thread", "cache", "review", "bug", "test", "deploy",
+            "memory", "latency", "lock", "stream", "react", "build", "error", "refactor", "api", "docker"
+    };
+    private static final long SPAN_SECONDS = 365L * 24 * 60 * 60;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int members;
+    private final int posts;
+    private final long comments;
+    private final int batchSize;
+    private final SplittableRandom random;
+
+    private DataSeeder() {
+        this.url = System.getProperty("seed.url",
+                "jdbc:mysql://localhost:3307/reviewjom?rewriteBatchedStatements=true");
+        this.username = System.getProperty("seed.username", "reviewjom");
+        this.password = System.getProperty("seed.password", "bench1234");
+        this.members = Integer.getInteger("seed.members", 100_000);
+        this.posts = Integer.getInteger("seed.posts", 1_000_000);
+        this.comments = Long.getLong("seed.comments", 10_000_000L);
+        this.batchSize = Integer.getInteger("seed.batch-size", 1_000);
+        this.random = new SplittableRandom(Long.getLong("seed.random-seed", 42L));
+    }
+
+    public static void main(String[] args) throws SQLException {
+        new DataSeeder().run();
+    }
+
+    private void run() throws SQLException {
+        // 멀티 row INSERT 로 바뀌지 않으면 배치 효과가 없다
+        if (url.startsWith("jdbc:mysql") && !url.contains("rewriteBatchedStatements=true")) {
+            throw new IllegalArgumentException("seed.url 에 rewriteBatchedStatements=true 가 필요합니다: " + url);
+        }
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            TagPicker tagPicker = TagPicker.load(connection, random);
+
+            // id 는 시퀀스를 거치지 않고 max(id) 뒤로 직접 채운다 (애플리케이션 재시작 시 IdSequenceAligner 가 시퀀스를 맞춤)
+            long firstMemberId = maxId(connection, "member") + 1;
+            long firstPostId = maxId(connection, "post") + 1;
+            int[] commentCounts = commentCounts();
+
+            seedMembers(connection, firstMemberId);
+            seedPosts(connection, firstPostId, firstMemberId, commentCounts);
+            seedPostTags(connection, firstPostId, maxId(connection, "post_tag") + 1, tagPicker);
+            seedComments(connection, firstPostId, firstMemberId, maxId(connection, "comment") + 1, commentCounts);
+            seedMemberStats(connection, firstMemberId);
+        }
+    }
+
+    private void seedMembers(Connection connection, long firstId) throws SQLException {
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        String sql = "INSERT INTO member (id, nickname, password, deleted, created_at, updated_at) " +
+                "VALUES (?, ?, ?, false, ?, ?)";
+        Progress progress = new Progress("member", members);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < members; i++) {
+                Timestamp createdAt = timestamp(i, members);
+                statement.setLong(1, firstId + i);
+                statement.setString(2, "lt" + i);
+                statement.setString(3, hash);
+                statement.setTimestamp(4, createdAt);
+                statement.setTimestamp(5, createdAt);
+                addBatch(connection, statement, progress);
+            }
+            finish(connection, statement, progress);
+        }
+    }
+
+    // 서비스가 유지하는 카운터를 건너뛰고 넣었으므로 V9 마이그레이션과 같은 방식으로 집계해 채운다
+    private static void seedMemberStats(Connection connection, long firstMemberId) throws SQLException {
+        String sql = "INSERT INTO member_stats " +
+                "(member_id, post_count, solved_post_count, comments_received, comments_written) " +
+                "SELECT m.id, " +
+                "(SELECT COUNT(*) FROM post p WHERE p.member_id = m.id AND p.deleted = false), " +
+                "(SELECT COUNT(*) FROM post p WHERE p.member_id = m.id AND p.deleted = false AND p.status = 'SOLVED'), " +
+                "(SELECT COALESCE(SUM(p.comment_count), 0) FROM post p WHERE p.member_id = m.id AND p.deleted = false), " +
+                "(SELECT COUNT(*) FROM comment c WHERE c.member_id = m.id AND c.deleted = false) " +
+                "FROM member m WHERE m.id >= ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, firstMemberId);
+            int rows = statement.executeUpdate();
+            connection.commit();
+            System.out.printf("member_stats: %,d%n", rows);
+        }
+    }
+
+    private void seedPosts(Connection connection, long firstId, long firstMemberId, int[] commentCounts)
+            throws SQLException {
+        String sql = "INSERT INTO post (id, member_id, title, content, excerpt, status, comment_count, revision, " +
+                "deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, false, ?, ?)";
+        Progress progress = new Progress("post", posts);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < posts; i++) {
+                String content = sentence(40 + random.nextInt(160));
+                Timestamp createdAt = timestamp(i, posts);
+                statement.setLong(1, firstId + i);
+                statement.setLong(2, firstMemberId + skewed(members));
+                statement.setString(3, sentence(3 + random.nextInt(8)));
+                statement.setString(4, content);
+                statement.setString(5, content.length() > 200 ? content.substring(0, 200) : content);
+                statement.setString(6, random.nextInt(10) < 3 ? "SOLVED" : "UNSOLVED");
+                statement.setInt(7, commentCounts[i]);
+                statement.setTimestamp(8, createdAt);
+                statement.setTimestamp(9, createdAt);
+                addBatch(connection, statement, progress);
+            }
+            finish(connection, statement, progress);
+        }
+    }
+
+    private void seedPostTags(Connection connection, long firstPostId, long firstId, TagPicker tagPicker)
+            throws SQLException {
+        String sql = "INSERT INTO post_tag (id, post_id, tag_id) VALUES (?, ?, ?)";
+        Progress progress = new Progress("post_tag", -1);
+        long id = firstId;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < posts; i++) {
+                for (long tagId : tagPicker.pick()) {
+                    statement.setLong(1, id++);
+                    statement.setLong(2, firstPostId + i);
+                    statement.setLong(3, tagId);
+                    addBatch(connection, statement, progress);
+                }
+            }
+            finish(connection, statement, progress);
+        }
+    }
+
+    private void seedComments(Connection connection, long firstPostId, long firstMemberId, long firstId,
+                              int[] commentCounts) throws SQLException {
+        String sql = "INSERT INTO comment (id, post_id, member_id, content, deleted, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, false, ?, ?)";
+        Progress progress = new Progress("comment", comments);
+        long id = firstId;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < posts; i++) {
+                Timestamp postCreatedAt = timestamp(i, posts);
+                for (int c = 0; c < commentCounts[i]; c++) {
+                    Timestamp createdAt = new Timestamp(postCreatedAt.getTime() + (c + 1) * 1_000L);
+                    statement.setLong(1, id++);
+                    statement.setLong(2, firstPostId + i);
+                    statement.setLong(3, firstMemberId + random.nextInt(members));
+                    statement.setString(4, sentence(5 + random.nextInt(30)));
+                    statement.setTimestamp(5, createdAt);
+                    statement.setTimestamp(6, createdAt);
+                    addBatch(connection, statement, progress);
+                }
+            }
+            finish(connection, statement, progress);
+        }
+    }
+
+    // 게시글마다 댓글 수를 미리 정해 comment_count 를 INSERT 시점에 맞춘다. 최근 글일수록 댓글이 몰린다
+    private int[] commentCounts() {
+        int[] counts = new int[posts];
+        if (posts == 0) {
+            return counts;
+        }
+        for (long i = 0; i < comments; i++) {
+            counts[posts - 1 - skewed(posts)]++;
+        }
+        return counts;
+    }
+
+    // 0 쪽에 몰리는 분포 (상위 소수 회원/게시글이 대부분의 활동을 차지)
+    private int skewed(int bound) {
+        return (int) (bound * Math.pow(random.nextDouble(), 3));
+    }
+
+    private String sentence(int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static Timestamp timestamp(long index, long total) {
+        long offset = total <= 1 ? 0 : SPAN_SECONDS * index / total;
+        return Timestamp.valueOf(LocalDateTime.now().minusSeconds(SPAN_SECONDS - offset));
+    }
+
+    private void addBatch(Connection connection, PreparedStatement statement, Progress progress) throws SQLException {
+        statement.addBatch();
+        if (++progress.pending == batchSize) {
+            flush(connection, statement, progress);
+        }
+    }
+
+    private static void flush(Connection connection, PreparedStatement statement, Progress progress)
+            throws SQLException {
+        if (progress.pending > 0) {
+            statement.executeBatch();
+            connection.commit();
+            progress.advance();
+        }
+    }
+
+    private static void finish(Connection connection, PreparedStatement statement, Progress progress)
+            throws SQLException {
+        flush(connection, statement, progress);
+        progress.report();
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * 카테고리별 Zipf 분포로 태그를 고른다.
+     * 게시글마다 언어 태그 1개, 60% 는 프레임워크 태그 1개, 그 중 일부는 1개 더.
+     */
+    private static class TagPicker {
+
+        private static final double ZIPF_EXPONENT = 1.1;
+
+        private final SplittableRandom random;
+        private final long[] languageIds;
+        private final double[] languageWeights;
+        private final long[] frameworkIds;
+        private final double[] frameworkWeights;
+
+        private TagPicker(SplittableRandom random, List<Long> languageIds, List<Long> frameworkIds) {
+            this.random = random;
+            this.languageIds = languageIds.stream().mapToLong(Long::longValue).toArray();
+            this.languageWeights = cumulativeZipf(languageIds.size());
+            this.frameworkIds = frameworkIds.stream().mapToLong(Long::longValue).toArray();
+            this.frameworkWeights = cumulativeZipf(frameworkIds.size());
+        }
+
+        static TagPicker load(Connection connection, SplittableRandom random) throws SQLException {
+            List<Long> languageIds = new ArrayList<>();
+            List<Long> frameworkIds = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT id, category FROM tag ORDER BY id")) {
+                while (resultSet.next()) {
+                    ("LANGUAGE".equals(resultSet.getString(2)) ? languageIds : frameworkIds).add(resultSet.getLong(1));
+                }
+            }
+            if (languageIds.isEmpty() || frameworkIds.isEmpty()) {
+                throw new IllegalStateException("태그가 없습니다. 애플리케이션을 한 번 실행해 태그를 초기화하세요.");
+            }
+            return new TagPicker(random, languageIds, frameworkIds);
+        }
+
+        long[] pick() {
+            long language = languageIds[sample(languageWeights)];
+            if (random.nextInt(10) >= 6) {
+                return new long[]{language};
+            }
+            int first = sample(frameworkWeights);
+            int second = sample(frameworkWeights);
+            if (first == second || random.nextInt(4) != 0) {
+                return new long[]{language, frameworkIds[first]};
+            }
+            return new long[]{language, frameworkIds[first], frameworkIds[second]};
+        }
+
+        private int sample(double[] cumulative) {
+            double value = random.nextDouble() * cumulative[cumulative.length - 1];
+            for (int i = 0; i < cumulative.length; i++) {
+                if (value < cumulative[i]) {
+                    return i;
+                }
+            }
+            return cumulative.length - 1;
+        }
+
+        private static double[] cumulativeZipf(int size) {
+            double[] cumulative = new double[size];
+            double sum = 0;
+            for (int rank = 1; rank <= size; rank++) {
+                sum += 1 / Math.pow(rank, ZIPF_EXPONENT);
+                cumulative[rank - 1] = sum;
+            }
+            return cumulative;
+        }
+    }
+
+    private static class Progress {
+
+        private final String table;
+        private final long total;
+        private final long startedAt = System.nanoTime();
+        private int pending;
+        private long done;
+        private long lastReportedAt = startedAt;
+
+        Progress(String table, long total) {
+            this.table = table;
+            this.total = total;
+        }
+
+        void advance() {
+            done += pending;
+            pending = 0;
+            if (System.nanoTime() - lastReportedAt >= 5_000_000_000L) {
+                report();
+            }
+        }
+
+        void report() {
+            long now = System.nanoTime();
+            lastReportedAt = now;
+            double seconds = Math.max((now - startedAt) / 1e9, 0.001);
+            System.out.printf("%-8s %,12d%s rows  %,10.0f rows/s%n", table, done,
+                    total >= 0 ? " / " + String.format("%,d", total) : "", done / seconds);
+        }
+    }
+}
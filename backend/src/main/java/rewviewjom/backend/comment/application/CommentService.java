@@ -1,37 +1,61 @@
 package rewviewjom.backend.comment.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import rewviewjom.backend.comment.application.dto.CommentCreateRequest;
 import rewviewjom.backend.comment.application.dto.CommentResponse;
 import rewviewjom.backend.comment.application.dto.CommentUpdateRequest;
+import rewviewjom.backend.comment.application.event.CommentChangedEvent;
 import rewviewjom.backend.comment.domain.Comment;
 import rewviewjom.backend.comment.domain.repository.CommentRepository;
 import rewviewjom.backend.global.exception.BusinessException;
 import rewviewjom.backend.global.exception.ErrorCode;
+import rewviewjom.backend.global.response.Cursor;
+import rewviewjom.backend.global.response.CursorResponse;
 import rewviewjom.backend.member.domain.Member;
 import rewviewjom.backend.member.domain.repository.MemberRepository;
+import rewviewjom.backend.member.domain.repository.MemberStatsRepository;
 import rewviewjom.backend.post.domain.Post;
 import rewviewjom.backend.post.domain.repository.PostRepository;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
+    private final MemberStatsRepository memberStatsRepository;
     private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentResponse createComment(Long memberId, Long postId, CommentCreateRequest request) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (postRepository.increaseCommentCount(postId) == 0) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+        Post post = postRepository.getReferenceById(postId);
+        memberStatsRepository.addCommentsWritten(memberId, 1);
+        memberStatsRepository.addCommentsReceivedByPostId(postId, 1);
 
         Comment comment = Comment.builder()
                 .member(member)
@@ -39,9 +63,14 @@ public class CommentService {
                 .content(request.getContent())
                 .build();
 
-        return CommentResponse.from(commentRepository.save(comment));
+        CommentResponse response = CommentResponse.from(commentRepository.save(comment));
+        eventPublisher.publishEvent(new CommentChangedEvent(postId, CommentChangedEvent.Type.CREATED, response));
+        return response;
     }
 
+    public Optional<Long> getCommentsRevision(Long postId) {
+        return postRepository.findRevisionById(postId);
+    }
 
     public List<CommentResponse> getCommentsByPostId(Long postId) {
         return commentRepository.findByPostIdWithMember(postId).stream()
@@ -49,6 +78,33 @@ public class CommentService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getCommentsByCursor(Long postId, String cursor, int size) {
+        Cursor decoded = Cursor.decode(cursor);
+        Slice<Comment> comments = commentRepository.findSliceByPostId(
+                postId, decoded.timestamp(), decoded.id(), PageRequest.of(0, size));
+        return CursorResponse.from(comments.map(CommentResponse::from),
+                comment -> new Cursor(comment.getCreatedAt(), comment.getId()));
+    }
+
+    // JDBC 커서에서 읽는 대로 NDJSON 한 줄씩 기록, 영속성 컨텍스트는 주기적으로 비운다
+    @Transactional(readOnly = true)
+    public void writeComments(Long postId, OutputStream outputStream) throws IOException {
+        try (Stream<Comment> comments = commentRepository.streamByPostId(postId)) {
+            Iterator<Comment> iterator = comments.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                outputStream.write(objectMapper.writeValueAsBytes(CommentResponse.from(iterator.next())));
+                outputStream.write('\n');
+                if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                    entityManager.clear();
+                    outputStream.flush();
+                }
+            }
+        }
+        outputStream.flush();
+    }
+
     @Transactional
     public CommentResponse updateComment(Long memberId, Long commentId, CommentUpdateRequest request) {
         Comment comment = commentRepository.findByIdWithMemberAndPost(commentId)
@@ -56,10 +112,13 @@ public class CommentService {
         validateAuthor(comment, memberId);
 
         comment.updateContent(request.getContent());
-        return CommentResponse.from(comment);
-    }
-
+        postRepository.increaseRevision(comment.getPost().getId());
 
+        CommentResponse response = CommentResponse.from(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(
+                comment.getPost().getId(), CommentChangedEvent.Type.UPDATED, response));
+        return response;
+    }
 
     private void validateAuthor(Comment comment, Long memberId) {
         if (!comment.isAuthor(memberId)) {
@@ -67,11 +126,18 @@ public class CommentService {
         }
     }
 
+    @Transactional
     public void deleteComment(Long memberId, Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
+        // 삭제 이벤트에도 CommentResponse 를 실어 보내므로 작성자를 함께 조회
+        Comment comment = commentRepository.findByIdWithMember(commentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
         validateAuthor(comment, memberId);
 
         comment.softDelete();
+        postRepository.decreaseCommentCount(comment.getPost().getId());
+        memberStatsRepository.addCommentsWritten(memberId, -1);
+        memberStatsRepository.addCommentsReceivedByPostId(comment.getPost().getId(), -1);
+        eventPublisher.publishEvent(new CommentChangedEvent(
+                comment.getPost().getId(), CommentChangedEvent.Type.DELETED, CommentResponse.from(comment)));
     }
 }
@@ -0,0 +1,227 @@
+package rewviewjom.backend.comment.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import rewviewjom.backend.comment.application.event.CommentChangedEvent;
+import rewviewjom.backend.global.exception.BusinessException;
+import rewviewjom.backend.global.exception.ErrorCode;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글별 댓글 변경을 SSE 구독자에게 전달하는 프로세스 내 허브.
+ * 커밋된 변경을 한 번만 직렬화해 구독자별 고정 크기 큐에 넣고, 구독자마다 가상 스레드 하나가 큐를 비우며 전송한다.
+ * 큐가 가득 찬(따라오지 못하는) 구독자는 연결을 끊어 다른 구독자와 커밋 스레드가 기다리지 않게 한다.
+ * 클라이언트는 재연결 후 댓글 목록을 다시 받아 놓친 변경을 맞춘다.
+ */
+@Slf4j
+@Component
+public class CommentStreamHub implements DisposableBean {
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final Map<Long, Set<Subscriber>> subscribersByPost = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Counter eventCounter;
+    private final Counter evictedCounter;
+
+    public CommentStreamHub(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${comment.stream.timeout:30m}") Duration timeout,
+            @Value("${comment.stream.heartbeat:15s}") Duration heartbeat,
+            @Value("${comment.stream.buffer-size:32}") int bufferSize,
+            @Value("${comment.stream.max-subscribers:10000}") int maxSubscribers) {
+        this.objectMapper = objectMapper;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("comment-stream-", 0).factory());
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+
+        Gauge.builder("comment.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("연결된 댓글 스트림 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("comment.stream.posts", subscribersByPost, Map::size)
+                .description("구독자가 있는 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("comment.stream.backlog", this, CommentStreamHub::backlog)
+                .description("전송 대기 중인 이벤트 수 (전체 구독자 합)")
+                .register(meterRegistry);
+        this.eventCounter = Counter.builder("comment.stream.events")
+                .description("구독자 큐에 넣은 이벤트 수")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("comment.stream.evicted")
+                .description("큐가 가득 차 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        return subscribe(postId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long postId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+        Subscriber subscriber = new Subscriber(postId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribersByPost.compute(postId, (key, subscribers) -> {
+            Set<Subscriber> target = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            target.add(subscriber);
+            return target;
+        });
+        // 완료/타임아웃/오류 모두 완료 콜백으로 이어지지만 컨테이너에 따라 순서가 달라 모두 등록
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscriber.start(executor.submit(subscriber::run));
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void on(CommentChangedEvent event) {
+        Set<Subscriber> subscribers = subscribersByPost.get(event.postId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        Message message = new Message(event.type().name().toLowerCase(Locale.ROOT), serialize(event));
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(message)) {
+                eventCounter.increment();
+            } else {
+                evict(subscriber);
+            }
+        }
+    }
+
+    // 커밋 스레드에서는 제거와 인터럽트만 한다. 전송 중인 emitter 를 완료하면 전송이 끝날 때까지 커밋 스레드가 막힌다
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            evictedCounter.increment();
+            log.info("댓글 스트림 구독자 제거: postId={}, 대기 이벤트={}", subscriber.postId, subscriber.queue.size());
+            executor.execute(subscriber.emitter::complete);
+        }
+    }
+
+    // 여러 경로에서 호출되므로 한 번만 정리한다
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribersByPost.computeIfPresent(subscriber.postId, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriberCount.decrementAndGet();
+        subscriber.stop();
+        return true;
+    }
+
+    private String serialize(CommentChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.comment());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double backlog() {
+        return subscribersByPost.values().stream()
+                .flatMap(Set::stream)
+                .mapToInt(subscriber -> subscriber.queue.size())
+                .sum();
+    }
+
+    @Override
+    public void destroy() {
+        subscribersByPost.values().stream()
+                .flatMap(Set::stream)
+                .toList()
+                .forEach(subscriber -> {
+                    remove(subscriber);
+                    subscriber.emitter.complete();
+                });
+        executor.shutdownNow();
+    }
+
+    private record Message(String name, String data) {
+    }
+
+    private class Subscriber {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Future<?> sender;
+
+        Subscriber(Long postId, SseEmitter emitter, BlockingQueue<Message> queue) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        void start(Future<?> sender) {
+            this.sender = sender;
+            // start 전에 이미 제거됐다면 바로 중단
+            if (closed.get()) {
+                sender.cancel(true);
+            }
+        }
+
+        void stop() {
+            Future<?> current = sender;
+            if (current != null) {
+                current.cancel(true);
+            }
+        }
+
+        // 이벤트가 없으면 heartbeat 주석을 보내 프록시 유휴 타임아웃과 끊긴 연결을 감지한다
+        void run() {
+            try {
+                while (!closed.get()) {
+                    Message message = queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                    if (message == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(message.name()).data(message.data()));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료. 응답 정리는 컨테이너가 완료 콜백으로 처리한다
+                log.debug("댓글 스트림 전송 실패: postId={}", postId, e);
+            } finally {
+                remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package rewviewjom.backend.comment.application.event;
+
+import rewviewjom.backend.comment.application.dto.CommentResponse;
+
+public record CommentChangedEvent(Long postId, Type type, CommentResponse comment) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
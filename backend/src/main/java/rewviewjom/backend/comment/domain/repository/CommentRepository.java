@@ -1,21 +1,42 @@
 package rewviewjom.backend.comment.domain.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import rewviewjom.backend.comment.domain.Comment;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentStreamRepository {
 
     @Query("SELECT c FROM Comment c " +
             "JOIN FETCH c.member " +
             "WHERE c.post.id = :postId " +
-            "ORDER BY c.createdAt ASC ")
+            "ORDER BY c.createdAt ASC, c.id ASC")
     List<Comment> findByPostIdWithMember(@Param("postId") Long postId);
 
+    @Query("SELECT c FROM Comment c " +
+            "JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId " +
+            "AND (:cursorCreatedAt IS NULL " +
+            "OR c.createdAt > :cursorCreatedAt " +
+            "OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findSliceByPostId(
+            @Param("postId") Long postId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("SELECT c FROM Comment c " +
+            "JOIN FETCH c.member " +
+            "WHERE c.id = :id")
+    Optional<Comment> findByIdWithMember(@Param("id") Long id);
+
     @Query("SELECT c FROM Comment c " +
             "JOIN FETCH c.member " +
             "JOIN FETCH c.post " +
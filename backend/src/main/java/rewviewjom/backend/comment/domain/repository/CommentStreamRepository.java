@@ -0,0 +1,11 @@
+package rewviewjom.backend.comment.domain.repository;
+
+import rewviewjom.backend.comment.domain.Comment;
+
+import java.util.stream.Stream;
+
+public interface CommentStreamRepository {
+
+    // 호출자가 트랜잭션 안에서 사용하고 닫아야 한다
+    Stream<Comment> streamByPostId(Long postId);
+}
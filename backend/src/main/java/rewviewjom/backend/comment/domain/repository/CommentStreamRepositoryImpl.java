@@ -0,0 +1,34 @@
+package rewviewjom.backend.comment.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import rewviewjom.backend.comment.domain.Comment;
+
+import java.util.stream.Stream;
+
+public class CommentStreamRepositoryImpl implements CommentStreamRepository {
+
+    private final EntityManager entityManager;
+    // MySQL 은 Integer.MIN_VALUE 일 때만 행 단위로 스트리밍하지만 다른 드라이버는 음수를 허용하지 않으므로 설정으로 분리
+    private final int fetchSize;
+
+    public CommentStreamRepositoryImpl(
+            EntityManager entityManager,
+            @Value("${jdbc.streaming-fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<Comment> streamByPostId(Long postId) {
+        return entityManager.createQuery("SELECT c FROM Comment c " +
+                        "JOIN FETCH c.member " +
+                        "WHERE c.post.id = :postId " +
+                        "ORDER BY c.createdAt ASC, c.id ASC", Comment.class)
+                .setParameter("postId", postId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -2,14 +2,26 @@ package rewviewjom.backend.comment.ui;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import rewviewjom.backend.comment.application.CommentService;
+import rewviewjom.backend.comment.application.CommentStreamHub;
 import rewviewjom.backend.comment.application.dto.CommentCreateRequest;
 import rewviewjom.backend.comment.application.dto.CommentResponse;
 import rewviewjom.backend.comment.application.dto.CommentUpdateRequest;
 import rewviewjom.backend.global.response.ApiResponse;
+import rewviewjom.backend.global.response.CursorResponse;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -17,6 +29,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamHub commentStreamHub;
 
     @PostMapping("/posts/{postId}/comments")
     public ApiResponse<CommentResponse> createComment(
@@ -27,8 +40,46 @@ public class CommentController {
     }
 
     @GetMapping("/posts/{postId}/comments")
-    public ApiResponse<List<CommentResponse>> getComments(@PathVariable Long postId) {
-        return ApiResponse.success(commentService.getCommentsByPostId(postId));
+    public ResponseEntity<ApiResponse<List<CommentResponse>>> getComments(
+            @PathVariable Long postId, WebRequest webRequest) {
+        Optional<Long> revision = commentService.getCommentsRevision(postId);
+        if (revision.isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.success(commentService.getCommentsByPostId(postId)));
+        }
+        String eTag = "\"c" + postId + "-r" + revision.get() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(commentService.getCommentsByPostId(postId)));
+    }
+
+    @GetMapping("/posts/{postId}/comments/scroll")
+    public ApiResponse<CursorResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ApiResponse.success(commentService.getCommentsByCursor(postId, cursor, pageable.getPageSize()));
+    }
+
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable Long postId) {
+        StreamingResponseBody body = outputStream -> commentService.writeComments(postId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // 댓글 작성/수정/삭제를 created, updated, deleted 이벤트로 푸시 (data 는 CommentResponse)
+    @GetMapping(value = "/posts/{postId}/comments/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeComments(@PathVariable Long postId) {
+        return ResponseEntity.ok()
+                // no-transform: 중간 프록시(Next rewrite)의 압축 버퍼링 방지, X-Accel-Buffering: nginx 버퍼링 해제
+                .cacheControl(CacheControl.noCache().noTransform())
+                .header("X-Accel-Buffering", "no")
+                .body(commentStreamHub.subscribe(postId));
     }
 
     @PatchMapping("/comments/{commentId}")
@@ -14,8 +14,9 @@ import java.time.LocalDateTime;
 @MappedSuperclass
 @EqualsAndHashCode(of = "id")
 public class BaseEntity {
+    // IDENTITY 는 INSERT 배치를 막으므로 pooled 시퀀스 사용 (MySQL 에서는 {table}_seq 테이블로 에뮬레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreatedDate
@@ -0,0 +1,169 @@
+package rewviewjom.backend.global.archive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 soft delete 게시글/댓글을 *_archive 테이블로 옮기고 원본에서 지운다.
+ * id 키셋으로 작은 배치를 나눠 배치마다 별도 트랜잭션으로 처리하고, 배치 사이에 쉬어 운영 트래픽에 양보한다.
+ * 삭제 게시글은 댓글과 태그를 같은 트랜잭션에서 함께 옮겨 참조가 끊기지 않게 한다.
+ * 회원은 남은 게시글/댓글이 참조하므로 대상에서 제외한다.
+ */
+@Slf4j
+@Component
+public class SoftDeleteArchiver {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer runTimer;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration pause;
+
+    public SoftDeleteArchiver(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${archive.retention:30d}") Duration retention,
+            @Value("${archive.batch-size:200}") int batchSize,
+            @Value("${archive.pause:200ms}") Duration pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.runTimer = Timer.builder("archive.run")
+                .description("soft delete 아카이빙 1회 소요 시간")
+                .register(meterRegistry);
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    // archive.cron 을 "-" 로 두면 비활성화
+    @Scheduled(cron = "${archive.cron:0 30 4 * * *}")
+    public void archive() {
+        long startedAt = System.nanoTime();
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Moved total = new Moved(0, 0, 0);
+        try {
+            total = total.plus(archiveDeletedPosts(cutoff));
+            total = total.plus(archiveDeletedComments(cutoff));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Archiving interrupted");
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            runTimer.record(Duration.ofNanos(elapsed));
+            log.info("Archived {} posts, {} post tags, {} comments (cutoff {}) in {} ms",
+                    total.posts(), total.postTags(), total.comments(), cutoff, Duration.ofNanos(elapsed).toMillis());
+        }
+    }
+
+    private Moved archiveDeletedPosts(LocalDateTime cutoff) throws InterruptedException {
+        Moved moved = new Moved(0, 0, 0);
+        long lastId = 0L;
+        List<Long> ids;
+        while (!(ids = findIds("post", cutoff, lastId)).isEmpty()) {
+            MapSqlParameterSource params = batchParams(ids);
+            Moved batch = transactionTemplate.execute(status -> {
+                // 자식 → 부모 순서로 옮겨 외래 키를 지킨다. 삭제 게시글의 댓글은 삭제 여부와 무관하게 함께 보관
+                int comments = move("comment",
+                        "INSERT INTO comment_archive (id, post_id, member_id, content, created_at, updated_at, archived_at) " +
+                                "SELECT id, post_id, member_id, content, created_at, updated_at, :archivedAt " +
+                                "FROM comment WHERE post_id IN (:ids)",
+                        "DELETE FROM comment WHERE post_id IN (:ids)", params);
+                int postTags = move("post_tag",
+                        "INSERT INTO post_tag_archive (id, post_id, tag_id, archived_at) " +
+                                "SELECT id, post_id, tag_id, :archivedAt FROM post_tag WHERE post_id IN (:ids)",
+                        "DELETE FROM post_tag WHERE post_id IN (:ids)", params);
+                int posts = move("post",
+                        "INSERT INTO post_archive (id, member_id, title, content, excerpt, status, comment_count, " +
+                                "revision, created_at, updated_at, archived_at) " +
+                                "SELECT id, member_id, title, content, excerpt, status, comment_count, " +
+                                "revision, created_at, updated_at, :archivedAt FROM post WHERE id IN (:ids)",
+                        "DELETE FROM post WHERE id IN (:ids)", params);
+                return new Moved(posts, postTags, comments);
+            });
+            moved = moved.plus(record(batch));
+            lastId = ids.get(ids.size() - 1);
+            Thread.sleep(pause.toMillis());
+        }
+        return moved;
+    }
+
+    // 살아 있는 게시글에 달린 삭제 댓글
+    private Moved archiveDeletedComments(LocalDateTime cutoff) throws InterruptedException {
+        Moved moved = new Moved(0, 0, 0);
+        long lastId = 0L;
+        List<Long> ids;
+        while (!(ids = findIds("comment", cutoff, lastId)).isEmpty()) {
+            MapSqlParameterSource params = batchParams(ids);
+            Moved batch = transactionTemplate.execute(status -> new Moved(0, 0, move("comment",
+                    "INSERT INTO comment_archive (id, post_id, member_id, content, created_at, updated_at, archived_at) " +
+                            "SELECT id, post_id, member_id, content, created_at, updated_at, :archivedAt " +
+                            "FROM comment WHERE id IN (:ids)",
+                    "DELETE FROM comment WHERE id IN (:ids)", params)));
+            moved = moved.plus(record(batch));
+            lastId = ids.get(ids.size() - 1);
+            Thread.sleep(pause.toMillis());
+        }
+        return moved;
+    }
+
+    // updated_at 은 softDelete 시점에 갱신되므로 삭제 시각으로 본다
+    private List<Long> findIds(String table, LocalDateTime cutoff, long lastId) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " " +
+                        "WHERE deleted = true AND updated_at < :cutoff AND id > :lastId " +
+                        "ORDER BY id LIMIT :limit",
+                new MapSqlParameterSource()
+                        .addValue("cutoff", Timestamp.valueOf(cutoff))
+                        .addValue("lastId", lastId)
+                        .addValue("limit", batchSize),
+                Long.class);
+    }
+
+    private int move(String table, String insertSql, String deleteSql, MapSqlParameterSource params) {
+        int copied = jdbcTemplate.update(insertSql, params);
+        int deleted = jdbcTemplate.update(deleteSql, params);
+        if (copied != deleted) {
+            // 배치 도중 행이 바뀌었으면 롤백하고 다음 실행에서 다시 시도
+            throw new IllegalStateException(table + " archive mismatch: copied " + copied + ", deleted " + deleted);
+        }
+        return copied;
+    }
+
+    // 커밋된 배치만 집계
+    private Moved record(Moved batch) {
+        meterRegistry.counter("archive.rows", "table", "post").increment(batch.posts());
+        meterRegistry.counter("archive.rows", "table", "post_tag").increment(batch.postTags());
+        meterRegistry.counter("archive.rows", "table", "comment").increment(batch.comments());
+        return batch;
+    }
+
+    private static MapSqlParameterSource batchParams(List<Long> ids) {
+        return new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private record Moved(long posts, long postTags, long comments) {
+
+        Moved plus(Moved other) {
+            return new Moved(posts + other.posts, postTags + other.postTags, comments + other.comments);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import rewviewjom.backend.tag.application.TagCatalog;
 import rewviewjom.backend.tag.domain.Tag;
 import rewviewjom.backend.tag.domain.TagCategory;
 import rewviewjom.backend.tag.domain.repository.TagRepository;
@@ -16,11 +17,13 @@ import java.util.List;
 public class DataInitializer implements CommandLineRunner {
 
     private final TagRepository tagRepository;
+    private final TagCatalog tagCatalog;
 
     @Override
     public void run(String... args) throws Exception {
         if (tagRepository.count() == 0) {
             initializeTags();
+            tagCatalog.refresh();
             log.info("Tags initialized successfully");
         }
     }
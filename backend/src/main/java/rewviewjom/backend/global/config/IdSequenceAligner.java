@@ -0,0 +1,50 @@
+package rewviewjom.backend.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MySQL 에서 pooled 시퀀스를 에뮬레이션하는 {table}_seq 테이블을 기존 id 뒤로 맞춘다.
+ * AUTO_INCREMENT 로 쌓인 기존 데이터나 시더가 직접 넣은 id 와 겹치지 않도록 요청을 받기 전에 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    private static final List<String> TABLES = List.of("member", "post", "comment", "post_tag");
+    // @GeneratedValue(SEQUENCE) 기본 allocationSize
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!isMySql()) {
+            return;
+        }
+        TABLES.forEach(this::align);
+    }
+
+    // pooled 옵티마이저는 읽은 값 v 에 대해 (v - allocationSize, v] 구간을 쓰므로 max(id) + allocationSize 보다 커야 한다
+    private void align(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long nextValue = maxId + ALLOCATION_SIZE + 1;
+        int updated = jdbcTemplate.update(
+                "UPDATE " + table + "_seq SET next_val = ? WHERE next_val < ?", nextValue, nextValue);
+        if (updated > 0) {
+            log.info("Sequence {}_seq aligned to {}", table, nextValue);
+        }
+    }
+
+    private boolean isMySql() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    }
+}
@@ -0,0 +1,39 @@
+package rewviewjom.backend.global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * spring.jpa.open-in-view 를 대신해 OSIV 인터셉터를 직접 등록한다.
+ * OSIV 는 요청이 끝날 때까지 커넥션을 쥐고 있으므로, BCrypt 해싱이 오래 걸리는
+ * 회원가입/로그인은 제외해 해싱 중에 커넥션을 점유하지 않게 한다.
+ */
+@Configuration
+public class OpenInViewConfig implements WebMvcConfigurer {
+
+    private static final String[] EXCLUDED_PATHS = {"/api/v1/members/signup", "/api/v1/members/login"};
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public OpenInViewConfig(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // 이 빈이 있으면 Boot 기본 OSIV 설정(JpaWebConfiguration)은 등록되지 않는다
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        return interceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(EXCLUDED_PATHS);
+    }
+}
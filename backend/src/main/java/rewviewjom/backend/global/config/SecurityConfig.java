@@ -1,5 +1,6 @@
 package rewviewjom.backend.global.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,10 +33,13 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // 스트리밍 응답 완료 dispatch
                         .requestMatchers("/api/v1/members/signup",
                                 "/api/v1/members/login",
                                 "/swagger-ui/**",
-                                "/v3/api-docs/**"
+                                "/v3/api-docs/**",
+                                "/actuator/health",
+                                "/actuator/prometheus"   // management 포트(내부 전용)에서만 열린다
                         ).permitAll()
                         .requestMatchers("/api/v1/members/me").authenticated()  // me는 인증 필요
                         .requestMatchers("/api/v1/members/*").permitAll()       // 나머지는 허용
@@ -0,0 +1,88 @@
+package rewviewjom.backend.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * datasource.routing.enabled=true 일 때 primary + replica 풀을 만들고 읽기 전용 트랜잭션을 replica 로 보낸다.
+ * 각 풀은 spring.datasource.hikari 설정을 공유하며 hikaricp.* 지표에 pool 이름으로 구분된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(
+            DataSourceProperties dataSourceProperties,
+            DataSourceRoutingProperties routingProperties,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        HikariDataSource primary = createPool(dataSourceProperties, environment, meterRegistry, ReplicaRoutingDataSource.PRIMARY);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource pool = createPool(dataSourceProperties, environment, meterRegistry, replica.getName());
+            pool.setJdbcUrl(replica.getUrl());
+            if (StringUtils.hasText(replica.getUsername())) {
+                pool.setUsername(replica.getUsername());
+                pool.setPassword(replica.getPassword());
+            }
+            pool.setReadOnly(true);
+            replicas.put(replica.getName(), pool);
+        }
+
+        return new ReplicaRoutingDataSource(
+                primary,
+                replicas,
+                new ReadYourWritesTracker(routingProperties.getReadYourWritesWindow()),
+                meterRegistry);
+    }
+
+    // OSIV 세션이 첫 트랜잭션의 커넥션을 요청 끝까지 잡고 있으면 이후 트랜잭션이 라우팅되지 않으므로
+    // 트랜잭션마다 커넥션을 반납하도록 한다
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static HikariDataSource createPool(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            String poolName) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,30 @@
+package rewviewjom.backend.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+    private List<Replica> replicas = new ArrayList<>();
+    // 쓰기 직후 같은 회원의 읽기를 primary 로 보내는 시간
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        // 비어 있으면 primary 계정 사용
+        private String username;
+        private String password;
+    }
+}
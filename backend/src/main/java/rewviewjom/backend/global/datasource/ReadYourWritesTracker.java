@@ -0,0 +1,32 @@
+package rewviewjom.backend.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 최근 쓰기를 커밋한 회원 목록. 윈도 동안 해당 회원의 읽기 트랜잭션은 replica 지연을 피해 primary 로 보낸다.
+ * 인스턴스 로컬 상태이므로 여러 인스턴스 사이에서는 공유되지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void markWrite(Long memberId) {
+        recentWriters.put(memberId, Boolean.TRUE);
+    }
+
+    public boolean isRecentWriter(Long memberId) {
+        return recentWriters.getIfPresent(memberId) != null;
+    }
+}
@@ -0,0 +1,201 @@
+package rewviewjom.backend.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 정상 상태의 replica 로 라운드로빈 라우팅하고, 그 외에는 primary 를 사용한다.
+ * 커넥션을 실제 쿼리 시점에 얻어야 readOnly 여부를 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        initialize();
+
+        this.replicas.forEach(replica -> Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                .tag("replica", replica.name)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 블록 안의 읽기 전용 트랜잭션도 primary 로 보낸다.
+     * 캐시를 채우는 조회처럼 replica 지연이 TTL 동안 남을 수 있는 읽기에 쓴다.
+     */
+    public static <T> T onPrimary(Supplier<T> query) {
+        boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(true);
+        try {
+            return query.get();
+        } finally {
+            PRIMARY_PINNED.set(previous);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        Replica replica = findReplica(key);
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            markDown(replica, e);
+            record(PRIMARY, "fallback");
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long memberId = currentMemberId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                markWriteAfterCommit(memberId);
+                return record(PRIMARY, "write");
+            }
+            return record(PRIMARY, "non-transactional");
+        }
+        if (PRIMARY_PINNED.get()) {
+            return record(PRIMARY, "pinned");
+        }
+        if (memberId != null && readYourWritesTracker.isRecentWriter(memberId)) {
+            return record(PRIMARY, "read-your-writes");
+        }
+        Replica replica = nextHealthyReplica();
+        if (replica == null) {
+            return record(PRIMARY, "fallback");
+        }
+        return record(replica.name, "read");
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval:5s}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markUp(replica);
+                } else {
+                    markDown(replica, null);
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica findReplica(String name) {
+        return replicas.stream()
+                .filter(replica -> replica.name.equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void markWriteAfterCommit(Long memberId) {
+        if (memberId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(memberId);
+            }
+        });
+    }
+
+    private void markUp(Replica replica) {
+        if (!replica.healthy) {
+            log.info("Replica {} is back up", replica.name);
+        }
+        replica.healthy = true;
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            log.warn("Replica {} is down, routing reads to primary: {}",
+                    replica.name, e != null ? e.getMessage() : "validation failed");
+        }
+        replica.healthy = false;
+    }
+
+    private String record(String target, String reason) {
+        meterRegistry.counter("datasource.routing", "target", target, "reason", reason).increment();
+        return target;
+    }
+
+    // JwtAuthenticationFilter 가 요청 속성에 넣어 둔 회원 id (요청 밖에서는 null)
+    private static Long currentMemberId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (Long) attributes.getAttribute("memberId", RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
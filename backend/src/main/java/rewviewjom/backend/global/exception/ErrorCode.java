@@ -9,6 +9,8 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     //global
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C002", "서버 내부 오류가 발생했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C003", "유효하지 않은 커서입니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Member
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "M001", "회원을 찾을 수 없습니다."),
@@ -17,6 +19,7 @@ public enum ErrorCode {
     // Post
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "게시글을 찾을 수 없습니다."),
     POST_ACCESS_DENIED(HttpStatus.FORBIDDEN, "P002", "게시글에 대한 권한이 없습니다."),
+    INVALID_POST_FILTER(HttpStatus.BAD_REQUEST, "P003", "키워드 검색과 태그 필터는 함께 사용할 수 없습니다."),
 
     // Tag
     TAG_NOT_FOUND(HttpStatus.NOT_FOUND, "T001", "태그를 찾을 수 없습니다."),
@@ -1,10 +1,11 @@
 package rewviewjom.backend.global.jwt;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -13,12 +14,21 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.validTokenTimer = filterTimer(meterRegistry, "valid");
+        this.invalidTokenTimer = filterTimer(meterRegistry, "invalid");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -26,13 +36,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = extractToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Long memberId = jwtTokenProvider.getMemberId(token);
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(memberId, null, Collections.emptyList());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            request.setAttribute("memberId", memberId);
+        if (StringUtils.hasText(token)) {
+            long start = System.nanoTime();
+            Optional<Long> verifiedMemberId = jwtTokenProvider.getVerifiedMemberId(token);
+            verifiedMemberId.ifPresent(memberId -> {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(memberId, null, Collections.emptyList());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                request.setAttribute("memberId", memberId);
+            });
+            (verifiedMemberId.isPresent() ? validTokenTimer : invalidTokenTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
@@ -45,4 +59,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.filter")
+                .description("토큰 검증 및 인증 정보 설정 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 }
@@ -1,28 +1,56 @@
 package rewviewjom.backend.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
     private final Key key;
     private final long expiration;
+    private final JwtParser jwtParser;
+    // 토큰 원문 대신 SHA-256 해시를 키로 사용, 엔트리는 토큰 만료 시각에 함께 만료
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(
+            MeterRegistry meterRegistry,
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long expiration) {
+            @Value("${jwt.expiration}") long expiration,
+            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize) {
         byte[] keyBytes = Base64.getDecoder().decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.expiration = expiration;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(Expiry.creating((String hash, VerifiedToken token) ->
+                        Duration.between(Instant.now(), token.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
     }
 
     public String createToken(Long memberId) {
@@ -37,25 +65,51 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Long getMemberId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.parseLong(claims.getSubject());
+    /**
+     * 서명과 만료를 한 번만 검증해 회원 id 를 돌려준다. 유효하지 않으면 empty.
+     * 최근 검증된 토큰은 캐시에서 바로 응답하되 만료 시각은 매번 다시 확인한다.
+     */
+    public Optional<Long> getVerifiedMemberId(String token) {
+        String hash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached.memberId());
+            }
+            verifiedTokens.invalidate(hash);
+            return Optional.empty();
+        }
+
+        VerifiedToken verified = parse(token);
+        if (verified == null) {
+            return Optional.empty();
+        }
+        verifiedTokens.put(hash, verified);
+        return Optional.of(verified.memberId());
     }
 
-    public boolean validateToken(String token) {
+    private VerifiedToken parse(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-            // TODO - 예외 추가
-        } catch (Exception e) {
-            return false;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                return null;
+            }
+            return new VerifiedToken(Long.parseLong(claims.getSubject()), claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Long memberId, Instant expiresAt) {
+    }
 }
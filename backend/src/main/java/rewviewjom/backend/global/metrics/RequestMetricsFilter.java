@@ -0,0 +1,80 @@
+package rewviewjom.backend.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 요청별 SQL 문장 수 / 엔티티 로드 / 컬렉션 초기화 횟수를 엔드포인트(uri 템플릿)별 분포로 기록하고,
+ * 임계 시간을 넘긴 요청은 쿼리 수와 함께 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final long slowRequestThresholdNanos;
+
+    public RequestMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.slow-request-threshold:500ms}") Duration slowRequestThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestThresholdNanos = slowRequestThreshold.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RequestQueryStats.clear();
+            record(request, stats);
+            if (elapsed >= slowRequestThresholdNanos) {
+                log.warn("Slow request: {} {} status={} took={}ms statements={} entityLoads={} collectionFetches={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        Duration.ofNanos(elapsed).toMillis(),
+                        stats.getStatements(), stats.getEntityLoads(), stats.getCollectionFetches());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        summary("http.server.requests.sql.statements", method, uri).record(stats.getStatements());
+        summary("http.server.requests.entity.loads", method, uri).record(stats.getEntityLoads());
+        summary("http.server.requests.collection.fetches", method, uri).record(stats.getCollectionFetches());
+    }
+
+    private DistributionSummary summary(String name, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
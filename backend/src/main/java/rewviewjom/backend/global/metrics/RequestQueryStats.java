@@ -0,0 +1,60 @@
+package rewviewjom.backend.global.metrics;
+
+/**
+ * 요청 스레드 단위의 Hibernate 실행 통계. RequestMetricsFilter 가 요청 시작/종료 시 설정/해제한다.
+ * 요청 밖(스케줄러, 비동기 스레드)에서 발생한 쿼리는 집계하지 않는다.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private int collectionFetches;
+
+    private RequestQueryStats() {
+    }
+
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static void onStatement() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void onEntityLoad() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void onCollectionFetch() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.collectionFetches++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getCollectionFetches() {
+        return collectionFetches;
+    }
+}
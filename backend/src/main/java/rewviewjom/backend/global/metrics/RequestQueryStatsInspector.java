@@ -0,0 +1,13 @@
+package rewviewjom.backend.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// SQL 은 바꾸지 않고 준비된 문장 수만 센다
+public class RequestQueryStatsInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats.onStatement();
+        return sql;
+    }
+}
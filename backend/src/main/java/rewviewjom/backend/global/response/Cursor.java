@@ -0,0 +1,35 @@
+package rewviewjom.backend.global.response;
+
+import org.springframework.util.StringUtils;
+import rewviewjom.backend.global.exception.BusinessException;
+import rewviewjom.backend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record Cursor(LocalDateTime timestamp, Long id) {
+
+    private static final Cursor FIRST = new Cursor(null, null);
+    private static final String DELIMITER = "|";
+
+    public static Cursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            return new Cursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
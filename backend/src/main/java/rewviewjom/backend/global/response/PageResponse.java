@@ -17,8 +17,13 @@ public class PageResponse<T> {
     private final int totalPages;
     private final boolean hasNext;
     private final boolean hasPrevious;
+    private final boolean approximateTotal;
 
     public static <T> PageResponse<T> from(Page<T> page) {
+        return from(page, false);
+    }
+
+    public static <T> PageResponse<T> from(Page<T> page, boolean approximateTotal) {
         return new PageResponse<>(
                 page.getContent(),
                 page.getNumber(),
@@ -26,7 +31,8 @@ public class PageResponse<T> {
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.hasNext(),
-                page.hasPrevious()
+                page.hasPrevious(),
+                approximateTotal
         );
     }
 }
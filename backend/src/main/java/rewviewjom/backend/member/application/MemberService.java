@@ -1,15 +1,20 @@
 package rewviewjom.backend.member.application;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import rewviewjom.backend.global.exception.BusinessException;
 import rewviewjom.backend.global.exception.ErrorCode;
 import rewviewjom.backend.global.jwt.JwtTokenProvider;
 import rewviewjom.backend.member.application.dto.*;
+import rewviewjom.backend.member.application.event.MemberNicknameChangedEvent;
 import rewviewjom.backend.member.domain.Member;
+import rewviewjom.backend.member.domain.MemberStats;
 import rewviewjom.backend.member.domain.repository.MemberRepository;
+import rewviewjom.backend.member.domain.repository.MemberStatsRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -17,28 +22,40 @@ import rewviewjom.backend.member.domain.repository.MemberRepository;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final MemberStatsRepository memberStatsRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 해싱은 트랜잭션 밖에서 먼저 하고, 저장만 짧은 트랜잭션으로 묶어 해싱 중에 커넥션을 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MemberResponse signUp(SignUpRequest request) {
-        if (memberRepository.existsByNickname(request.getNickname())) {
-            throw new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
-        }
+        String encodedPassword = passwordHashingExecutor.encode(request.getPassword());
 
-        Member member = Member.builder()
-                .nickname(request.getNickname())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .build();
+        return transactionTemplate.execute(status -> {
+            if (memberRepository.existsByNickname(request.getNickname())) {
+                throw new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
+            }
+
+            Member member = Member.builder()
+                    .nickname(request.getNickname())
+                    .password(encodedPassword)
+                    .build();
 
-        return MemberResponse.from(memberRepository.save(member));
+            Member savedMember = memberRepository.save(member);
+            memberStatsRepository.save(new MemberStats(savedMember));
+            return MemberResponse.from(savedMember);
+        });
     }
 
+    // 회원 조회는 자체 트랜잭션에서 끝내 커넥션을 반납하고, 해싱은 트랜잭션 밖에서 한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
         Member member = memberRepository.findByNickname(request.getNickname())
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        if (!passwordHashingExecutor.matches(request.getPassword(), member.getPassword())) {
             throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
         }
 
@@ -55,6 +72,13 @@ public class MemberService {
         return MemberResponse.from(member);
     }
 
+    // 쓰기 시점에 유지한 카운터 한 행만 읽는다
+    public MemberStatsResponse getStats(Long memberId) {
+        return memberStatsRepository.findById(memberId)
+                .map(MemberStatsResponse::from)
+                .orElseGet(MemberStatsResponse::empty);
+    }
+
     @Transactional
     public MemberResponse updateNickname(Long memberId, MemberUpdateRequest request) {
         if (memberRepository.existsByNickname(request.getNickname())) {
@@ -62,6 +86,8 @@ public class MemberService {
         }
         Member member = findByMemberId(memberId);
         member.updateNickname(request.getNickname());
+        // 관련 게시글 revision 은 커밋 후 PostRevisionUpdater 가 배치로 올린다
+        eventPublisher.publishEvent(new MemberNicknameChangedEvent(memberId));
 
         return MemberResponse.from(member);
     }
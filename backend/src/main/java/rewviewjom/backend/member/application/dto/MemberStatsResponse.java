@@ -0,0 +1,27 @@
+package rewviewjom.backend.member.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import rewviewjom.backend.member.domain.MemberStats;
+
+@Getter
+@Builder
+public class MemberStatsResponse {
+    private long totalPosts;
+    private long solvedPosts;
+    private long commentsReceived;
+    private long commentsWritten;
+
+    public static MemberStatsResponse from(MemberStats stats) {
+        return MemberStatsResponse.builder()
+                .totalPosts(stats.getPostCount())
+                .solvedPosts(stats.getSolvedPostCount())
+                .commentsReceived(stats.getCommentsReceived())
+                .commentsWritten(stats.getCommentsWritten())
+                .build();
+    }
+
+    public static MemberStatsResponse empty() {
+        return MemberStatsResponse.builder().build();
+    }
+}
@@ -0,0 +1,4 @@
+package rewviewjom.backend.member.application.event;
+
+public record MemberNicknameChangedEvent(Long memberId) {
+}
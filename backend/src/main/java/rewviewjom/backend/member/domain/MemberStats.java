@@ -0,0 +1,37 @@
+package rewviewjom.backend.member.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 누적 통계. 값은 {@code MemberStatsRepository} 의 증감 UPDATE 로만 바꾼다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_stats")
+public class MemberStats {
+
+    @Id
+    private Long memberId;
+
+    // 회원 INSERT 뒤에 들어가도록 연관관계로 매핑
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    private long postCount;
+
+    private long solvedPostCount;
+
+    private long commentsReceived;
+
+    private long commentsWritten;
+
+    public MemberStats(Member member) {
+        this.member = member;
+    }
+}
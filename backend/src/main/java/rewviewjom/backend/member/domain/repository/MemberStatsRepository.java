@@ -0,0 +1,32 @@
+package rewviewjom.backend.member.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rewviewjom.backend.member.domain.MemberStats;
+
+// 동시 쓰기에도 값을 잃지 않도록 읽고 쓰지 않고 원자적 증감 UPDATE 사용
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.postCount = s.postCount + :posts, " +
+            "s.solvedPostCount = s.solvedPostCount + :solvedPosts, " +
+            "s.commentsReceived = s.commentsReceived + :commentsReceived " +
+            "WHERE s.memberId = :memberId")
+    int addPostStats(
+            @Param("memberId") Long memberId,
+            @Param("posts") long posts,
+            @Param("solvedPosts") long solvedPosts,
+            @Param("commentsReceived") long commentsReceived);
+
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.commentsWritten = s.commentsWritten + :delta WHERE s.memberId = :memberId")
+    int addCommentsWritten(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    // 삭제된 게시글은 서브쿼리에서 제외되어 (@SQLRestriction) 받은 댓글 수가 바뀌지 않는다
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.commentsReceived = s.commentsReceived + :delta " +
+            "WHERE s.memberId = (SELECT p.member.id FROM Post p WHERE p.id = :postId)")
+    int addCommentsReceivedByPostId(@Param("postId") Long postId, @Param("delta") long delta);
+}
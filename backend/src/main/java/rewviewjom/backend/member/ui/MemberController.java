@@ -29,6 +29,11 @@ public class MemberController {
         return ApiResponse.success(memberService.getMember(memberId));
     }
 
+    @GetMapping("/me/stats")
+    public ApiResponse<MemberStatsResponse> getMyStats(@RequestAttribute("memberId") Long memberId) {
+        return ApiResponse.success(memberService.getStats(memberId));
+    }
+
     @PatchMapping("/me")
     public ApiResponse<MemberResponse> updateNickname(
             @RequestAttribute("memberId") Long memberId,
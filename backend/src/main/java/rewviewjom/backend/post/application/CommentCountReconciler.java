@@ -0,0 +1,39 @@
+package rewviewjom.backend.post.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rewviewjom.backend.post.domain.repository.PostRepository;
+
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+    private final int batchSize;
+
+    public CommentCountReconciler(
+            PostRepository postRepository,
+            @Value("${post.comment-count.reconcile-batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${post.comment-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        int fixed = 0;
+
+        // 배치 단위(id 범위)로 나누어 각각 별도 트랜잭션에서 재계산
+        Long upperId;
+        while ((upperId = postRepository.findBatchUpperId(lastId, batchSize)) != null) {
+            fixed += postRepository.reconcileCommentCount(lastId, upperId);
+            lastId = upperId;
+        }
+
+        log.info("Comment count reconciled: {} posts fixed in {} ms",
+                fixed, System.currentTimeMillis() - startedAt);
+    }
+}
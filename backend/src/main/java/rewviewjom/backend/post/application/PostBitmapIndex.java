@@ -0,0 +1,229 @@
+package rewviewjom.backend.post.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rewviewjom.backend.post.application.event.PostCreatedEvent;
+import rewviewjom.backend.post.application.event.PostDeletedEvent;
+import rewviewjom.backend.post.application.event.PostStatusChangedEvent;
+import rewviewjom.backend.post.application.event.PostUpdatedEvent;
+import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.post.domain.TagMatch;
+import rewviewjom.backend.post.domain.repository.PostIndexRow;
+import rewviewjom.backend.post.domain.repository.PostRepository;
+import rewviewjom.backend.post.domain.repository.PostTagRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 id / 상태 -> 게시글 집합을 압축 비트맵으로 유지하는 인메모리 인덱스.
+ * 비트 위치는 게시글 id 가 아니라 수정 순서(rank)라서, 다른 목록과 같이 updated_at DESC, id DESC 순으로 페이지를 자른다.
+ * 시작 시 DB 에서 한 번 빌드하고, 이후에는 게시글 변경 이벤트(커밋 후)로 갱신한다.
+ * 수정/상태 변경으로 updated_at 이 바뀐 게시글은 새 rank 를 받아 맨 앞으로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostBitmapIndex implements SmartInitializingSingleton {
+
+    private static final int BUILD_BATCH_SIZE = 1_000;
+
+    // 목록 쿼리의 ORDER BY p.updatedAt DESC, p.id DESC 와 반대 방향 (rank 가 클수록 최신)
+    private static final Comparator<PostIndexRow> RECENCY = Comparator
+            .comparing(PostIndexRow::updatedAt)
+            .thenComparing(PostIndexRow::id);
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RoaringBitmap> postsByTag = new HashMap<>();
+    private final Map<PostStatus, RoaringBitmap> postsByStatus = new EnumMap<>(PostStatus.class);
+    private final Map<Long, Integer> rankByPostId = new HashMap<>();
+    private final Map<Integer, Long> postIdByRank = new HashMap<>();
+    private int nextRank;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            postsByTag.clear();
+            postsByStatus.clear();
+            rankByPostId.clear();
+            postIdByRank.clear();
+            nextRank = 0;
+
+            List<PostIndexRow> rows = new ArrayList<>();
+            List<PostIndexRow> batch;
+            long lastId = 0L;
+            while (!(batch = postRepository.findIndexRowsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE))).isEmpty()) {
+                rows.addAll(batch);
+                lastId = batch.get(batch.size() - 1).id();
+            }
+
+            rows.stream()
+                    .sorted(RECENCY)
+                    .forEach(row -> statusBitmap(row.status()).add(assignRank(row.id())));
+            // 태그는 id 순 배치로 읽어 IN 목록을 작게 유지한다
+            for (int from = 0; from < rows.size(); from += BUILD_BATCH_SIZE) {
+                List<Long> postIds = rows.subList(from, Math.min(from + BUILD_BATCH_SIZE, rows.size())).stream()
+                        .map(PostIndexRow::id)
+                        .toList();
+                postTagRepository.findTagIdsByPostIdIn(postIds)
+                        .forEach(postTag -> tagBitmap(postTag.tagId()).add(rankByPostId.get(postTag.postId())));
+            }
+
+            postsByTag.values().forEach(RoaringBitmap::runOptimize);
+            postsByStatus.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Post bitmap index built: {} tags in {} ms",
+                postsByTag.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 다른 게시글 목록과 같은 updated_at DESC, id DESC 순으로 offset 부터 size 개의 id 와 전체 개수를 반환한다.
+     * 같은 시각에 커밋된 변경은 커밋 이벤트 순서로 정렬된다.
+     */
+    public IdPage search(PostStatus status, List<Long> tagIds, TagMatch tagMatch, long offset, int size) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = RoaringBitmap.and(statusFilter(status), tagFilter(tagIds, tagMatch));
+            int total = result.getCardinality();
+
+            List<Long> postIds = new ArrayList<>(size);
+            for (long position = offset; position < total && postIds.size() < size; position++) {
+                postIds.add(postIdByRank.get(result.select((int) (total - 1 - position))));
+            }
+            return new IdPage(postIds, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void on(PostCreatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            int rank = assignRank(event.postId());
+            statusBitmap(event.status()).add(rank);
+            event.tagIds().forEach(tagId -> tagBitmap(tagId).add(rank));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void on(PostUpdatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            int rank = moveToFront(event.postId());
+            postsByTag.values().forEach(bitmap -> bitmap.remove(rank));
+            event.tagIds().forEach(tagId -> tagBitmap(tagId).add(rank));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void on(PostStatusChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            int rank = moveToFront(event.postId());
+            postsByStatus.values().forEach(bitmap -> bitmap.remove(rank));
+            statusBitmap(event.status()).add(rank);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void on(PostDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Integer rank = rankByPostId.remove(event.postId());
+            if (rank == null) {
+                return;
+            }
+            postIdByRank.remove(rank);
+            postsByStatus.values().forEach(bitmap -> bitmap.remove(rank));
+            postsByTag.values().forEach(bitmap -> bitmap.remove(rank));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int assignRank(Long postId) {
+        int rank = nextRank++;
+        rankByPostId.put(postId, rank);
+        postIdByRank.put(rank, postId);
+        return rank;
+    }
+
+    // 새 rank 를 주고 이전 rank 가 있던 비트맵에 그대로 옮긴다
+    private int moveToFront(Long postId) {
+        Integer previous = rankByPostId.get(postId);
+        int rank = assignRank(postId);
+        if (previous != null) {
+            postIdByRank.remove(previous);
+            for (RoaringBitmap bitmap : bitmaps()) {
+                if (bitmap.checkedRemove(previous)) {
+                    bitmap.add(rank);
+                }
+            }
+        }
+        return rank;
+    }
+
+    private List<RoaringBitmap> bitmaps() {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(postsByStatus.values());
+        bitmaps.addAll(postsByTag.values());
+        return bitmaps;
+    }
+
+    private RoaringBitmap statusFilter(PostStatus status) {
+        if (status != null) {
+            return postsByStatus.getOrDefault(status, new RoaringBitmap());
+        }
+        return FastAggregation.or(postsByStatus.values().iterator());
+    }
+
+    private RoaringBitmap tagFilter(List<Long> tagIds, TagMatch tagMatch) {
+        List<RoaringBitmap> bitmaps = tagIds.stream()
+                .map(tagId -> postsByTag.getOrDefault(tagId, new RoaringBitmap()))
+                .toList();
+        if (tagMatch == TagMatch.ALL) {
+            return FastAggregation.and(bitmaps.iterator());
+        }
+        return FastAggregation.or(bitmaps.iterator());
+    }
+
+    private RoaringBitmap statusBitmap(PostStatus status) {
+        return postsByStatus.computeIfAbsent(status, key -> new RoaringBitmap());
+    }
+
+    private RoaringBitmap tagBitmap(Long tagId) {
+        return postsByTag.computeIfAbsent(tagId, key -> new RoaringBitmap());
+    }
+
+    public record IdPage(List<Long> postIds, long totalElements) {
+    }
+}
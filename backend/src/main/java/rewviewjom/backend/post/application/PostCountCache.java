@@ -0,0 +1,147 @@
+package rewviewjom.backend.post.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rewviewjom.backend.post.application.event.PostCreatedEvent;
+import rewviewjom.backend.post.application.event.PostDeletedEvent;
+import rewviewjom.backend.post.application.event.PostStatusChangedEvent;
+import rewviewjom.backend.post.application.event.PostUpdatedEvent;
+import rewviewjom.backend.post.domain.PostStatus;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 필터(status, keyword, member)별 전체 개수 캐시.
+ * 키워드가 없는 항목은 게시글 생성/삭제/상태 변경 시 정확히 보정하고,
+ * 키워드 항목은 판단할 수 없으므로 stale 로 표시한다.
+ * stale 항목은 approximate 요청에 한해 max-staleness 이내일 때만 그대로 반환한다.
+ */
+@Component
+public class PostCountCache {
+
+    private final Cache<CountKey, CountEntry> cache;
+    private final long maxStalenessNanos;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter approximateCounter;
+    private final Timer stalenessTimer;
+
+    public PostCountCache(
+            MeterRegistry meterRegistry,
+            @Value("${post.count-cache.maximum-size:10000}") long maximumSize,
+            @Value("${post.count-cache.ttl:10m}") Duration ttl,
+            @Value("${post.count-cache.max-staleness:30s}") Duration maxStaleness) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.approximateCounter = requestCounter(meterRegistry, "approximate");
+        this.stalenessTimer = Timer.builder("post.count.cache.staleness")
+                .description("Age of stale counts served in approximate mode")
+                .register(meterRegistry);
+        Gauge.builder("post.count.cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    public CountResult get(CountKey key, boolean approximate, LongSupplier counter) {
+        long now = System.nanoTime();
+        CountEntry entry = cache.getIfPresent(key);
+
+        if (entry != null && entry.isExact()) {
+            hitCounter.increment();
+            return new CountResult(entry.count(), false);
+        }
+        if (entry != null && approximate && now - entry.staleSince() <= maxStalenessNanos) {
+            approximateCounter.increment();
+            stalenessTimer.record(Duration.ofNanos(now - entry.staleSince()));
+            return new CountResult(entry.count(), true);
+        }
+
+        missCounter.increment();
+        long count = counter.getAsLong();
+        cache.put(key, CountEntry.exact(count));
+        return new CountResult(count, false);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void on(PostCreatedEvent event) {
+        adjust(event.status(), event.memberId(), 1);
+        markKeywordEntriesStale();
+    }
+
+    @TransactionalEventListener
+    public void on(PostUpdatedEvent event) {
+        markKeywordEntriesStale();
+    }
+
+    @TransactionalEventListener
+    public void on(PostStatusChangedEvent event) {
+        adjust(event.previousStatus(), event.memberId(), -1);
+        adjust(event.status(), event.memberId(), 1);
+        markKeywordEntriesStale();
+    }
+
+    @TransactionalEventListener
+    public void on(PostDeletedEvent event) {
+        adjust(event.status(), event.memberId(), -1);
+        markKeywordEntriesStale();
+    }
+
+    private void adjust(PostStatus status, Long memberId, long delta) {
+        for (PostStatus keyStatus : Arrays.asList(null, status)) {
+            for (Long keyMemberId : Arrays.asList(null, memberId)) {
+                cache.asMap().computeIfPresent(
+                        new CountKey(keyStatus, null, keyMemberId),
+                        (key, entry) -> entry.plus(delta));
+            }
+        }
+    }
+
+    private void markKeywordEntriesStale() {
+        long now = System.nanoTime();
+        cache.asMap().replaceAll((key, entry) -> key.keyword() == null ? entry : entry.markStale(now));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("post.count.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record CountKey(PostStatus status, String keyword, Long memberId) {
+    }
+
+    public record CountResult(long count, boolean approximate) {
+    }
+
+    private record CountEntry(long count, boolean isExact, long staleSince) {
+
+        static CountEntry exact(long count) {
+            return new CountEntry(count, true, 0L);
+        }
+
+        CountEntry plus(long delta) {
+            return new CountEntry(Math.max(0L, count + delta), isExact, staleSince);
+        }
+
+        CountEntry markStale(long now) {
+            return isExact ? new CountEntry(count, false, now) : this;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package rewviewjom.backend.post.application;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rewviewjom.backend.post.application.dto.PostResponse;
+import rewviewjom.backend.post.application.event.PostDeletedEvent;
+import rewviewjom.backend.post.application.event.PostStatusChangedEvent;
+import rewviewjom.backend.post.application.event.PostUpdatedEvent;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 조립된 PostResponse 캐시. 게시글 변경은 커밋 후 해당 키만 무효화하고,
+ * 드물게 일어나는 닉네임 변경은 PostRevisionUpdater 가 revision 을 올린 뒤 전체를 비운다.
+ */
+@Component
+public class PostDetailCache {
+
+    private final boolean enabled;
+    private final AsyncCache<Long, PostResponse> cache;
+
+    public PostDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${post.detail-cache.enabled:true}") boolean enabled,
+            @Value("${post.detail-cache.maximum-size:1000}") long maximumSize,
+            @Value("${post.detail-cache.ttl:5m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post.detail");
+    }
+
+    public PostResponse get(Long postId, Function<Long, PostResponse> loader) {
+        if (!enabled) {
+            return loader.apply(postId);
+        }
+        // 같은 키에 대한 동시 요청은 로더를 한 번만 실행한다 (예외는 캐시하지 않음).
+        // 로더(JDBC)는 맵의 compute 락 밖에서 실행해 가상 스레드가 캐리어에 고정되지 않게 한다
+        CompletableFuture<PostResponse> created = new CompletableFuture<>();
+        CompletableFuture<PostResponse> future = cache.get(postId, (key, executor) -> created);
+        if (future == created) {
+            // Error 로 끝나도 future 를 완료해야 같은 키를 기다리는 요청이 영원히 멈추지 않는다
+            try {
+                created.complete(loader.apply(postId));
+            } catch (Throwable e) {
+                created.completeExceptionally(e);
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // 로드가 끝난 항목만 돌려준다. 로드 중이거나 실패한 항목은 없는 것으로 본다
+    public Optional<PostResponse> getIfPresent(Long postId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CompletableFuture<PostResponse> future = cache.getIfPresent(postId);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.of(future.join());
+    }
+
+    public void invalidate(Long postId) {
+        cache.synchronous().invalidate(postId);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void on(PostUpdatedEvent event) {
+        invalidate(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void on(PostStatusChangedEvent event) {
+        invalidate(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void on(PostDeletedEvent event) {
+        invalidate(event.postId());
+    }
+}
@@ -0,0 +1,159 @@
+package rewviewjom.backend.post.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rewviewjom.backend.post.application.dto.PostExportResponse;
+import rewviewjom.backend.post.application.dto.PostExportResponse.CommentExport;
+import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.tag.application.TagService;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 전체를 태그, 댓글과 함께 NDJSON 으로 내보낸다.
+ * 게시글을 id 키셋으로 batch-size 만큼 읽고, 그 id 구간의 태그와 댓글을 모아 배치 단위로 조립한다.
+ * 배치마다 짧은 읽기 전용 트랜잭션을 쓰고, 커서를 모두 닫은 뒤에 응답에 기록한다.
+ * 느린 클라이언트가 커넥션과 스트리밍 커서를, 긴 트랜잭션이 레플리카의 undo 로그를 붙잡지 않게 하기 위함이다.
+ * 배치마다 스냅샷이 달라도 id 키셋으로 이어 읽으므로 게시글이 빠지거나 겹치지 않는다.
+ * 각 줄의 id 를 afterId 로 넘기면 끊긴 지점부터 이어서 받을 수 있다.
+ */
+@Service
+public class PostExportService {
+
+    // 본문(content)은 게시글마다 한 번만 읽는다. PK 구간 스캔이라 정렬 비용이 없다
+    private static final String POST_SQL = "SELECT p.id, p.member_id, m.nickname, p.title, p.content, p.status, " +
+            "p.comment_count, p.created_at, p.updated_at " +
+            "FROM post p " +
+            "JOIN member m ON m.id = p.member_id " +
+            "WHERE p.deleted = false AND p.id > ? " +
+            "ORDER BY p.id " +
+            "LIMIT ?";
+
+    // post_id 인덱스(FK)에 PK 가 붙어 있어 (post_id, id) 순서로 filesort 없이 읽는다
+    private static final String TAG_SQL = "SELECT pt.post_id, pt.tag_id " +
+            "FROM post_tag pt " +
+            "WHERE pt.post_id > ? AND pt.post_id <= ? " +
+            "ORDER BY pt.post_id, pt.id";
+
+    // idx_comment_post_deleted_created 순서 그대로 읽는다
+    private static final String COMMENT_SQL = "SELECT c.id, c.post_id, c.member_id, m.nickname, c.content, c.created_at " +
+            "FROM comment c " +
+            "JOIN member m ON m.id = c.member_id " +
+            "WHERE c.post_id > ? AND c.post_id <= ? AND c.deleted = false " +
+            "ORDER BY c.post_id, c.created_at, c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TagService tagService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public PostExportService(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            TagService tagService,
+            ObjectMapper objectMapper,
+            @Value("${jdbc.streaming-fetch-size:500}") int fetchSize,
+            @Value("${post.export.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // 읽기 전용 트랜잭션이라 레플리카로 라우팅된다
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.tagService = tagService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public void export(long afterId, OutputStream outputStream) throws IOException {
+        long lastId = afterId;
+        List<PostExportResponse> batch;
+        do {
+            long fromId = lastId;
+            batch = readOnlyTransaction.execute(status -> readBatch(fromId));
+            // 트랜잭션과 커서가 모두 끝난 뒤에 기록한다
+            for (PostExportResponse post : batch) {
+                outputStream.write(objectMapper.writeValueAsBytes(post));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+            if (!batch.isEmpty()) {
+                lastId = batch.getLast().getId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    // 쿼리는 하나씩 끝까지 읽으므로 스트리밍 커서가 겹치지 않는다
+    private List<PostExportResponse> readBatch(long fromId) {
+        LinkedHashMap<Long, PostExportResponse.PostExportResponseBuilder> posts = findPosts(fromId);
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        long toId = posts.lastEntry().getKey();
+        attachTags(posts, fromId, toId);
+        attachComments(posts, fromId, toId);
+        return posts.values().stream()
+                .map(PostExportResponse.PostExportResponseBuilder::build)
+                .toList();
+    }
+
+    private LinkedHashMap<Long, PostExportResponse.PostExportResponseBuilder> findPosts(long afterId) {
+        LinkedHashMap<Long, PostExportResponse.PostExportResponseBuilder> posts = new LinkedHashMap<>();
+        jdbcTemplate.query(POST_SQL, (RowCallbackHandler) rs -> {
+            long postId = rs.getLong("id");
+            posts.put(postId, PostExportResponse.builder()
+                    .id(postId)
+                    .memberId(rs.getLong("member_id"))
+                    .memberNickname(rs.getString("nickname"))
+                    .title(rs.getString("title"))
+                    .content(rs.getString("content"))
+                    .status(PostStatus.valueOf(rs.getString("status")))
+                    .commentCount(rs.getInt("comment_count"))
+                    .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                    .updatedAt(rs.getObject("updated_at", LocalDateTime.class)));
+        }, afterId, batchSize);
+        return posts;
+    }
+
+    // 배치 구간의 태그 id 를 게시글별로 모은 뒤 태그 정보는 카탈로그에서 채운다
+    private void attachTags(Map<Long, PostExportResponse.PostExportResponseBuilder> posts, long fromId, long toId) {
+        Map<Long, List<Long>> tagIdsByPostId = new HashMap<>();
+        jdbcTemplate.query(TAG_SQL, (RowCallbackHandler) rs -> tagIdsByPostId
+                .computeIfAbsent(rs.getLong("post_id"), postId -> new ArrayList<>())
+                .add(rs.getLong("tag_id")), fromId, toId);
+        posts.forEach((postId, post) ->
+                post.tags(tagService.getTagResponsesByIds(tagIdsByPostId.getOrDefault(postId, List.of()))));
+    }
+
+    // 삭제된 게시글의 댓글은 대응하는 게시글이 없으므로 건너뛴다
+    private void attachComments(Map<Long, PostExportResponse.PostExportResponseBuilder> posts, long fromId, long toId) {
+        Map<Long, List<CommentExport>> commentsByPostId = new HashMap<>();
+        jdbcTemplate.query(COMMENT_SQL, (RowCallbackHandler) rs -> {
+            long postId = rs.getLong("post_id");
+            if (!posts.containsKey(postId)) {
+                return;
+            }
+            commentsByPostId.computeIfAbsent(postId, key -> new ArrayList<>()).add(CommentExport.builder()
+                    .id(rs.getLong("id"))
+                    .memberId(rs.getLong("member_id"))
+                    .memberNickname(rs.getString("nickname"))
+                    .content(rs.getString("content"))
+                    .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                    .build());
+        }, fromId, toId);
+        posts.forEach((postId, post) -> post.comments(commentsByPostId.getOrDefault(postId, List.of())));
+    }
+}
@@ -0,0 +1,108 @@
+package rewviewjom.backend.post.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rewviewjom.backend.member.application.event.MemberNicknameChangedEvent;
+import rewviewjom.backend.post.domain.repository.PostRepository;
+import rewviewjom.backend.post.domain.repository.PostSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 닉네임 변경이 커밋된 뒤 그 회원이 쓴 게시글과 댓글 단 게시글의 revision 을 올려 상세/댓글 ETag 를 바꾼다.
+ * 요청 트랜잭션에서 한 번에 갱신하면 글이 많은 회원일수록 행 락과 커넥션을 오래 잡으므로,
+ * 키셋으로 batch-size 만큼씩 나눠 배치마다 짧은 트랜잭션으로 갱신한다.
+ * 상세 캐시는 갱신이 끝난 뒤 비워 새 닉네임 본문이 이전 revision 으로 캐시되지 않게 한다.
+ */
+@Slf4j
+@Component
+public class PostRevisionUpdater {
+
+    private final PostRepository postRepository;
+    private final PostDetailCache postDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PostRevisionUpdater(
+            PostRepository postRepository,
+            PostDetailCache postDetailCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${post.revision-update.batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.postDetailCache = postDetailCache;
+        // 커밋 후 리스너에서 실행되므로 끝난 요청 트랜잭션에 참여하지 않도록 새 트랜잭션을 연다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener
+    public void on(MemberNicknameChangedEvent event) {
+        int written = updateWrittenPosts(event.memberId());
+        int commented = updateCommentedPosts(event.memberId());
+        postDetailCache.invalidateAll();
+        log.info("닉네임 변경 revision 갱신: memberId={}, 작성 글={}, 댓글 단 글={}",
+                event.memberId(), written, commented);
+    }
+
+    // 내 게시글 커서와 같은 (updated_at, id) 키셋으로 읽는다. 댓글 단 글과 겹쳐 두 번 올라가도 무방
+    private int updateWrittenPosts(Long memberId) {
+        int updated = 0;
+        LocalDateTime cursorUpdatedAt = null;
+        Long cursorId = null;
+        Slice<PostSummary> posts;
+        do {
+            LocalDateTime updatedAt = cursorUpdatedAt;
+            Long id = cursorId;
+            posts = transactionTemplate.execute(status -> {
+                Slice<PostSummary> slice = postRepository.findSummarySliceByMemberId(
+                        memberId, updatedAt, id, PageRequest.of(0, batchSize));
+                increaseRevision(slice.map(PostSummary::id).getContent());
+                return slice;
+            });
+            if (!posts.hasContent()) {
+                break;
+            }
+            updated += posts.getNumberOfElements();
+            PostSummary last = posts.getContent().getLast();
+            cursorUpdatedAt = last.updatedAt();
+            cursorId = last.id();
+        } while (posts.hasNext());
+        return updated;
+    }
+
+    private int updateCommentedPosts(Long memberId) {
+        int updated = 0;
+        long afterId = 0L;
+        List<Long> postIds;
+        do {
+            long fromId = afterId;
+            postIds = transactionTemplate.execute(status -> {
+                List<Long> ids = postRepository.findCommentedPostIdsAfter(
+                        memberId, fromId, PageRequest.of(0, batchSize));
+                increaseRevision(ids);
+                return ids;
+            });
+            if (postIds.isEmpty()) {
+                break;
+            }
+            updated += postIds.size();
+            afterId = postIds.getLast();
+        } while (postIds.size() == batchSize);
+        return updated;
+    }
+
+    private void increaseRevision(List<Long> postIds) {
+        if (!postIds.isEmpty()) {
+            postRepository.increaseRevisionByIdIn(postIds);
+        }
+    }
+}
@@ -1,32 +1,73 @@
 package rewviewjom.backend.post.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import rewviewjom.backend.global.datasource.ReplicaRoutingDataSource;
 import rewviewjom.backend.global.exception.BusinessException;
 import rewviewjom.backend.global.exception.ErrorCode;
+import rewviewjom.backend.global.response.Cursor;
+import rewviewjom.backend.global.response.CursorResponse;
 import rewviewjom.backend.global.response.PageResponse;
 import rewviewjom.backend.member.domain.Member;
 import rewviewjom.backend.member.domain.repository.MemberRepository;
+import rewviewjom.backend.member.domain.repository.MemberStatsRepository;
+import rewviewjom.backend.post.application.PostCountCache.CountKey;
+import rewviewjom.backend.post.application.PostCountCache.CountResult;
 import rewviewjom.backend.post.application.dto.*;
+import rewviewjom.backend.post.application.event.PostCreatedEvent;
+import rewviewjom.backend.post.application.event.PostDeletedEvent;
+import rewviewjom.backend.post.application.event.PostStatusChangedEvent;
+import rewviewjom.backend.post.application.event.PostUpdatedEvent;
 import rewviewjom.backend.post.domain.Post;
 import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.post.domain.TagMatch;
 import rewviewjom.backend.post.domain.repository.PostRepository;
+import rewviewjom.backend.post.domain.repository.PostSummary;
+import rewviewjom.backend.post.domain.repository.PostTagId;
+import rewviewjom.backend.post.domain.repository.PostTagRepository;
 import rewviewjom.backend.tag.application.TagService;
 import rewviewjom.backend.tag.domain.Tag;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int FULL_TEXT_MIN_KEYWORD_LENGTH = 2;
+
     private final MemberRepository memberRepository;
+    private final MemberStatsRepository memberStatsRepository;
     private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
     private final TagService tagService;
+    private final PostBitmapIndex postBitmapIndex;
+    private final PostCountCache postCountCache;
+    private final PostDetailCache postDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 검색 벤치마크에서 LIKE 경로와 비교할 때만 끈다
+    @Value("${post.search.full-text:true}")
+    private boolean fullTextSearchEnabled;
 
     @Transactional
     public PostResponse createPost(Long memberId, PostCreateRequest request) {
@@ -40,27 +81,74 @@ public class PostService {
                 .build();
 
         tags.forEach(post::addTag);
-        return PostResponse.from(postRepository.save(post));
+        Post savedPost = postRepository.save(post);
+        memberStatsRepository.addPostStats(memberId, 1, solvedDelta(savedPost.getStatus()), 0);
+
+        eventPublisher.publishEvent(new PostCreatedEvent(
+                savedPost.getId(), memberId, savedPost.getStatus(), request.getTagIds()));
+        return PostResponse.from(savedPost, tagService.getTagResponsesByIds(request.getTagIds()));
     }
 
+    // 캐시 히트 시 트랜잭션(커넥션) 없이 반환하도록 트랜잭션 밖에서 조회
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse getPost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
-        return PostResponse.from(post);
+        return postDetailCache.get(postId, this::loadPost);
+    }
+
+    // 조건부 요청 처리용. 캐시에 조립된 본문이 있을 때만 돌려준다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<PostResponse> getCachedPost(Long postId) {
+        return postDetailCache.getIfPresent(postId);
+    }
+
+    // 본문과 같이 primary 에서 읽어 replica 지연으로 이전 revision 에 304 를 주지 않게 한다
+    public Optional<Long> getPostRevision(Long postId) {
+        return ReplicaRoutingDataSource.onPrimary(() -> postRepository.findRevisionById(postId));
     }
 
     public PageResponse<PostListResponse> getPosts(
             PostStatus status,
             String keyword,
+            List<Long> tagIds,
+            TagMatch tagMatch,
+            boolean approximateCount,
             Pageable pageable) {
-        Page<Post> posts = postRepository.findAllWithFilter(status, keyword, pageable);
-        return PageResponse.from(posts.map(PostListResponse::from));
+        if (!CollectionUtils.isEmpty(tagIds)) {
+            if (StringUtils.hasText(keyword)) {
+                throw new BusinessException(ErrorCode.INVALID_POST_FILTER);
+            }
+            return getPostsByTags(status, tagIds, tagMatch, pageable);
+        }
+        if (isFullTextSearchable(keyword)) {
+            return searchPosts(status, keyword.strip(), approximateCount, pageable);
+        }
+        List<PostSummary> posts = postRepository.findSummariesWithFilter(status, keyword, pageable);
+        CountResult total = countPosts(posts, pageable,
+                new CountKey(status, keyword, null), approximateCount,
+                () -> postRepository.countWithFilter(status, keyword));
+        return toPageResponse(posts, pageable, total);
+    }
+
+    public PageResponse<PostListResponse> getMyPosts(Long memberId, boolean approximateCount, Pageable pageable) {
+        List<PostSummary> posts = postRepository.findSummariesByMemberId(memberId, pageable);
+        CountResult total = countPosts(posts, pageable,
+                new CountKey(null, null, memberId), approximateCount,
+                () -> postRepository.countByMemberId(memberId));
+        return toPageResponse(posts, pageable, total);
+    }
+
+    public CursorResponse<PostListResponse> getPostsByCursor(PostStatus status, String cursor, int size) {
+        Cursor decoded = Cursor.decode(cursor);
+        Slice<PostSummary> posts = postRepository.findSummarySliceWithFilter(
+                status, decoded.timestamp(), decoded.id(), PageRequest.of(0, size));
+        return CursorResponse.from(toListResponses(posts), PostService::toCursor);
     }
 
-    public PageResponse<PostListResponse> getMyPosts(Long memberId, Pageable pageable) {
-        Page<Post> posts = postRepository.findByMemberId(memberId, pageable);
-        Page<PostListResponse> responsePage = posts.map(PostListResponse::from);
-        return PageResponse.from(responsePage);
+    public CursorResponse<PostListResponse> getMyPostsByCursor(Long memberId, String cursor, int size) {
+        Cursor decoded = Cursor.decode(cursor);
+        Slice<PostSummary> posts = postRepository.findSummarySliceByMemberId(
+                memberId, decoded.timestamp(), decoded.id(), PageRequest.of(0, size));
+        return CursorResponse.from(toListResponses(posts), PostService::toCursor);
     }
 
     @Transactional
@@ -71,10 +159,11 @@ public class PostService {
         List<Tag> tags = tagService.getTagsByIds(request.getTagIds());
 
         post.update(request.getTitle(), request.getContent());
-        post.clearTags();
-        tags.forEach(post::addTag);
+        post.replaceTags(tags);
+        postRepository.increaseRevision(postId);
 
-        return PostResponse.from(post);
+        eventPublisher.publishEvent(new PostUpdatedEvent(postId, request.getTagIds()));
+        return PostResponse.from(post, tagService.getTagResponsesByIds(request.getTagIds()));
     }
 
     @Transactional
@@ -82,8 +171,14 @@ public class PostService {
         Post post = findPostById(postId);
 
         validateAuthor(post, memberId);
+        PostStatus previousStatus = post.getStatus();
         post.updateStatus(request.getStatus());
-        return PostResponse.from(post);
+        postRepository.increaseRevision(postId);
+        memberStatsRepository.addPostStats(memberId, 0,
+                solvedDelta(post.getStatus()) - solvedDelta(previousStatus), 0);
+
+        eventPublisher.publishEvent(new PostStatusChangedEvent(postId, memberId, previousStatus, post.getStatus()));
+        return toPostResponse(post);
     }
 
     @Transactional
@@ -92,6 +187,27 @@ public class PostService {
         validateAuthor(post, memberId);
 
         post.softDelete();
+        memberStatsRepository.addPostStats(memberId, -1, -solvedDelta(post.getStatus()), -post.getCommentCount());
+        eventPublisher.publishEvent(new PostDeletedEvent(postId, memberId, post.getStatus()));
+    }
+
+    // 캐시에 TTL 동안 남으므로 replica 가 아닌 primary 에서 읽는다 (무효화 직후 지연된 replica 값을 캐시하지 않게)
+    private PostResponse loadPost(Long postId) {
+        Post post = ReplicaRoutingDataSource.onPrimary(() -> postRepository.findDetailById(postId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        return PostResponse.from(post);
+    }
+
+    // 태그 정보는 카탈로그에서 채워 태그 프록시를 하나씩 초기화하지 않는다
+    private PostResponse toPostResponse(Post post) {
+        List<Long> tagIds = post.getPostTags().stream()
+                .map(postTag -> postTag.getTag().getId())
+                .toList();
+        return PostResponse.from(post, tagService.getTagResponsesByIds(tagIds));
+    }
+
+    private static long solvedDelta(PostStatus status) {
+        return status == PostStatus.SOLVED ? 1 : 0;
     }
 
     private Member findMemberById(Long memberId) {
@@ -109,4 +225,101 @@ public class PostService {
             throw new BusinessException(ErrorCode.POST_ACCESS_DENIED);
         }
     }
+
+    private static Cursor toCursor(PostListResponse post) {
+        return new Cursor(post.getUpdatedAt(), post.getId());
+    }
+
+    private PageResponse<PostListResponse> searchPosts(
+            PostStatus status,
+            String keyword,
+            boolean approximateCount,
+            Pageable pageable) {
+        String statusName = status == null ? null : status.name();
+        String phraseQuery = toPhraseQuery(keyword);
+
+        List<Long> postIds = postRepository.searchIdsByKeyword(statusName, phraseQuery, pageable);
+        List<PostSummary> posts = findSummariesInOrder(postIds);
+        CountResult total = countPosts(postIds, pageable,
+                new CountKey(status, keyword, null), approximateCount,
+                () -> postRepository.countByKeyword(statusName, phraseQuery));
+        return toPageResponse(posts, pageable, total);
+    }
+
+    // 첫 페이지가 가득 차지 않았다면 COUNT 없이 전체 개수를 알 수 있다
+    private CountResult countPosts(
+            List<?> content,
+            Pageable pageable,
+            CountKey key,
+            boolean approximateCount,
+            LongSupplier counter) {
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new CountResult(content.size(), false);
+        }
+        return postCountCache.get(key, approximateCount, counter);
+    }
+
+    private PageResponse<PostListResponse> toPageResponse(
+            List<PostSummary> posts,
+            Pageable pageable,
+            CountResult total) {
+        Page<PostListResponse> page = new PageImpl<>(toListResponses(posts), pageable, total.count());
+        return PageResponse.from(page, total.approximate());
+    }
+
+    // 태그 필터는 비트맵 인덱스가 다른 목록과 같은 updated_at DESC, id DESC 순으로 페이지를 자른다
+    private PageResponse<PostListResponse> getPostsByTags(
+            PostStatus status,
+            List<Long> tagIds,
+            TagMatch tagMatch,
+            Pageable pageable) {
+        PostBitmapIndex.IdPage idPage = postBitmapIndex.search(
+                status, tagIds, tagMatch, pageable.getOffset(), pageable.getPageSize());
+        List<PostSummary> posts = findSummariesInOrder(idPage.postIds());
+        return PageResponse.from(new PageImpl<>(toListResponses(posts), pageable, idPage.totalElements()));
+    }
+
+    private List<PostSummary> findSummariesInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummary> postsById = postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Slice<PostListResponse> toListResponses(Slice<PostSummary> posts) {
+        return new SliceImpl<>(toListResponses(posts.getContent()), posts.getPageable(), posts.hasNext());
+    }
+
+    // 페이지의 모든 게시글 태그 id 를 IN 쿼리 한 번으로 조회하고 태그 정보는 카탈로그에서 채운다
+    private List<PostListResponse> toListResponses(List<PostSummary> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = posts.stream()
+                .map(PostSummary::id)
+                .toList();
+        Map<Long, List<Long>> tagIdsByPostId = postTagRepository.findTagIdsByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        PostTagId::postId,
+                        Collectors.mapping(PostTagId::tagId, Collectors.toList())));
+
+        return posts.stream()
+                .map(post -> PostListResponse.of(post,
+                        tagService.getTagResponsesByIds(tagIdsByPostId.getOrDefault(post.id(), List.of()))))
+                .toList();
+    }
+
+    // ngram 토큰보다 짧은 키워드는 FULLTEXT 인덱스로 찾을 수 없으므로 LIKE 검색 유지
+    private boolean isFullTextSearchable(String keyword) {
+        return fullTextSearchEnabled && keyword != null && keyword.strip().length() >= FULL_TEXT_MIN_KEYWORD_LENGTH;
+    }
+
+    private String toPhraseQuery(String keyword) {
+        return "\"" + keyword.replace("\"", " ") + "\"";
+    }
 }
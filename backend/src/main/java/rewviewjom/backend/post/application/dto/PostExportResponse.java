@@ -0,0 +1,36 @@
+package rewviewjom.backend.post.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.tag.application.dto.TagResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// NDJSON 내보내기 한 줄 (게시글 하나와 태그, 살아있는 댓글)
+@Getter
+@Builder
+public class PostExportResponse {
+    private Long id;
+    private Long memberId;
+    private String memberNickname;
+    private String title;
+    private String content;
+    private PostStatus status;
+    private int commentCount;
+    private List<TagResponse> tags;
+    private List<CommentExport> comments;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @Builder
+    public static class CommentExport {
+        private Long id;
+        private Long memberId;
+        private String memberNickname;
+        private String content;
+        private LocalDateTime createdAt;
+    }
+}
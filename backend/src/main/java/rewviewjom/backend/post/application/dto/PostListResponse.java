@@ -3,8 +3,8 @@ package rewviewjom.backend.post.application.dto;
 import lombok.Builder;
 import lombok.Getter;
 import rewviewjom.backend.member.application.dto.MemberResponse;
-import rewviewjom.backend.post.domain.Post;
 import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.post.domain.repository.PostSummary;
 import rewviewjom.backend.tag.application.dto.TagResponse;
 
 import java.time.LocalDateTime;
@@ -15,23 +15,28 @@ import java.util.List;
 public class PostListResponse {
     private Long id;
     private String title;
+    private String excerpt;
     private PostStatus status;
     private int commentCount;
     private MemberResponse member;
     private List<TagResponse> tags;
     private LocalDateTime updatedAt;
 
-    public static PostListResponse from(Post post) {
+    public static PostListResponse of(PostSummary post, List<TagResponse> tags) {
         return PostListResponse.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .commentCount(post.getCommentCount())
-                .status(post.getStatus())
-                .member(MemberResponse.from(post.getMember()))
-                .tags(post.getPostTags().stream()
-                        .map(pt -> TagResponse.from(pt.getTag()))
-                        .toList())
-                .updatedAt(post.getUpdatedAt())
+                .id(post.id())
+                .title(post.title())
+                .excerpt(post.excerpt())
+                .commentCount(post.commentCount())
+                .status(post.status())
+                .member(MemberResponse.builder()
+                        .id(post.memberId())
+                        .nickname(post.memberNickname())
+                        .profileImage(post.memberProfileImage())
+                        .createdAt(post.memberCreatedAt())
+                        .build())
+                .tags(tags)
+                .updatedAt(post.updatedAt())
                 .build();
     }
 }
@@ -1,5 +1,6 @@
 package rewviewjom.backend.post.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
@@ -26,18 +27,27 @@ public class PostResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 상세 ETag 용. 캐시된 본문과 같은 시점의 값이어야 하므로 응답 객체에 함께 담는다
+    @JsonIgnore
+    private long revision;
+
     public static PostResponse from(Post post) {
+        return from(post, post.getPostTags().stream()
+                .map(pt -> TagResponse.from(pt.getTag()))
+                .toList());
+    }
+
+    public static PostResponse from(Post post, List<TagResponse> tags) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .postStatus(post.getStatus())
                 .member(MemberResponse.from(post.getMember()))
-                .tags(post.getPostTags().stream()
-                        .map(pt -> TagResponse.from(pt.getTag()))
-                        .toList())
+                .tags(tags)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .revision(post.getRevision())
                 .build();
     }
 }
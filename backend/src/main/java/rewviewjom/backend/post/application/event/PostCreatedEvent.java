@@ -0,0 +1,8 @@
+package rewviewjom.backend.post.application.event;
+
+import rewviewjom.backend.post.domain.PostStatus;
+
+import java.util.List;
+
+public record PostCreatedEvent(Long postId, Long memberId, PostStatus status, List<Long> tagIds) {
+}
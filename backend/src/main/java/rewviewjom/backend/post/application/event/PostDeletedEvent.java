@@ -0,0 +1,6 @@
+package rewviewjom.backend.post.application.event;
+
+import rewviewjom.backend.post.domain.PostStatus;
+
+public record PostDeletedEvent(Long postId, Long memberId, PostStatus status) {
+}
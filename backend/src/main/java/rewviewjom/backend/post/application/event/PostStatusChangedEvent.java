@@ -0,0 +1,6 @@
+package rewviewjom.backend.post.application.event;
+
+import rewviewjom.backend.post.domain.PostStatus;
+
+public record PostStatusChangedEvent(Long postId, Long memberId, PostStatus previousStatus, PostStatus status) {
+}
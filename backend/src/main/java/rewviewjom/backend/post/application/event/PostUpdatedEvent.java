@@ -0,0 +1,6 @@
+package rewviewjom.backend.post.application.event;
+
+import java.util.List;
+
+public record PostUpdatedEvent(Long postId, List<Long> tagIds) {
+}
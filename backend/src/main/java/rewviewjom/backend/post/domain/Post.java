@@ -5,7 +5,6 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.SQLRestriction;
 import rewviewjom.backend.global.BaseEntity;
 import rewviewjom.backend.member.domain.Member;
@@ -13,6 +12,8 @@ import rewviewjom.backend.tag.domain.Tag;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
 @Getter
@@ -20,6 +21,8 @@ import java.util.List;
 @SQLRestriction("deleted = false")
 public class Post extends BaseEntity {
 
+    private static final int EXCERPT_LENGTH = 200;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -30,6 +33,10 @@ public class Post extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 목록 카드 미리보기용, content 저장 시 함께 계산
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private PostStatus status;
@@ -37,9 +44,14 @@ public class Post extends BaseEntity {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostTag> postTags = new ArrayList<>();
 
-    @Formula("(SELECT count(1) FROM comment c WHERE c.post_id = id AND c.deleted = false)")
+    // 댓글 생성/삭제 시 PostRepository 의 벌크 UPDATE 로만 변경
+    @Column(nullable = false, updatable = false, columnDefinition = "int default 0")
     private int commentCount;
 
+    // 상세/댓글 응답의 ETag 용, 게시글·댓글 변경 시 PostRepository 의 벌크 UPDATE 로만 증가
+    @Column(nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long revision;
+
     private boolean deleted = false;
 
     @Builder
@@ -47,12 +59,14 @@ public class Post extends BaseEntity {
         this.member = member;
         this.title = title;
         this.content = content;
+        this.excerpt = toExcerpt(content);
         this.status = PostStatus.UNSOLVED;
     }
 
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = toExcerpt(content);
     }
 
     public void updateStatus(PostStatus status) {
@@ -72,7 +86,33 @@ public class Post extends BaseEntity {
         this.postTags.add(postTag);
     }
 
-    public void clearTags() {
-        this.postTags.clear();
+    // 빠진 태그만 삭제하고 새 태그만 추가해 유지되는 태그는 DELETE + INSERT 하지 않는다
+    public void replaceTags(List<Tag> tags) {
+        Set<Long> newTagIds = tags.stream()
+                .map(Tag::getId)
+                .collect(Collectors.toSet());
+        this.postTags.removeIf(postTag -> !newTagIds.contains(postTag.getTag().getId()));
+
+        Set<Long> currentTagIds = this.postTags.stream()
+                .map(postTag -> postTag.getTag().getId())
+                .collect(Collectors.toSet());
+        tags.stream()
+                .filter(tag -> !currentTagIds.contains(tag.getId()))
+                .forEach(this::addTag);
+    }
+
+    private static String toExcerpt(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = content.replaceAll("\\s+", " ").strip();
+        if (normalized.length() <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+        int end = EXCERPT_LENGTH;
+        if (Character.isHighSurrogate(normalized.charAt(end - 1))) {
+            end--;
+        }
+        return normalized.substring(0, end);
     }
 }
@@ -13,7 +13,7 @@ import rewviewjom.backend.tag.domain.Tag;
 public class PostTag {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,6 @@
+package rewviewjom.backend.post.domain;
+
+public enum TagMatch {
+    ANY,
+    ALL
+}
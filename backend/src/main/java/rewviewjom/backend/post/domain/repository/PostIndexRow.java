@@ -0,0 +1,8 @@
+package rewviewjom.backend.post.domain.repository;
+
+import rewviewjom.backend.post.domain.PostStatus;
+
+import java.time.LocalDateTime;
+
+public record PostIndexRow(Long id, PostStatus status, LocalDateTime updatedAt) {
+}
@@ -1,32 +1,164 @@
 package rewviewjom.backend.post.domain.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import rewviewjom.backend.post.domain.Post;
 import rewviewjom.backend.post.domain.PostStatus;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    @Query(value = "SELECT DISTINCT p " +
+    // 목록 조회용 projection: content(TEXT) 컬럼은 읽지 않음
+    String SUMMARY = "new rewviewjom.backend.post.domain.repository.PostSummary(" +
+            "p.id, p.title, p.excerpt, p.status, p.commentCount, p.updatedAt, " +
+            "m.id, m.nickname, m.profileImage, m.createdAt) ";
+
+    @Query("SELECT " + SUMMARY +
             "FROM Post p " +
-            "LEFT JOIN FETCH p.member m " +
+            "JOIN p.member m " +
             "WHERE (:status IS NULL OR p.status = :status) " +
             "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
-            "ORDER BY p.updatedAt DESC",
-            countQuery = "SELECT COUNT(DISTINCT p) FROM Post p " +
-                    "WHERE (:status IS NULL OR p.status = :status) " +
-                    "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
-    Page<Post> findAllWithFilter(
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PostSummary> findSummariesWithFilter(
             @Param("status") PostStatus status,
             @Param("keyword") String keyword,
             Pageable pageable);
 
+    @Query("SELECT COUNT(p) FROM Post p " +
+            "WHERE (:status IS NULL OR p.status = :status) " +
+            "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
+    long countWithFilter(
+            @Param("status") PostStatus status,
+            @Param("keyword") String keyword);
+
+    // ft_post_title_content (ngram FULLTEXT) 인덱스 사용, 관련도 순 정렬
+    @Query(value = "SELECT p.id FROM post p " +
+            "WHERE p.deleted = false " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) DESC, p.updated_at DESC, p.id DESC",
+            nativeQuery = true)
+    List<Long> searchIdsByKeyword(
+            @Param("status") String status,
+            @Param("keyword") String keyword,
+            Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM post p " +
+            "WHERE p.deleted = false " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    long countByKeyword(
+            @Param("status") String status,
+            @Param("keyword") String keyword);
+
     @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.member " +
-            "WHERE p.member.id = :memberId " +
-            "ORDER BY p.updatedAt DESC")
-    Page<Post> findByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+            "JOIN FETCH p.member " +
+            "LEFT JOIN FETCH p.postTags pt " +
+            "LEFT JOIN FETCH pt.tag " +
+            "WHERE p.id = :postId")
+    Optional<Post> findDetailById(@Param("postId") Long postId);
+
+    @Query("SELECT " + SUMMARY +
+            "FROM Post p " +
+            "JOIN p.member m " +
+            "WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT " + SUMMARY +
+            "FROM Post p " +
+            "JOIN p.member m " +
+            "WHERE m.id = :memberId " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PostSummary> findSummariesByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    long countByMemberId(Long memberId);
+
+    @Query("SELECT " + SUMMARY +
+            "FROM Post p " +
+            "JOIN p.member m " +
+            "WHERE (:status IS NULL OR p.status = :status) " +
+            "AND (:cursorUpdatedAt IS NULL " +
+            "OR p.updatedAt < :cursorUpdatedAt " +
+            "OR (p.updatedAt = :cursorUpdatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    Slice<PostSummary> findSummarySliceWithFilter(
+            @Param("status") PostStatus status,
+            @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("SELECT " + SUMMARY +
+            "FROM Post p " +
+            "JOIN p.member m " +
+            "WHERE m.id = :memberId " +
+            "AND (:cursorUpdatedAt IS NULL " +
+            "OR p.updatedAt < :cursorUpdatedAt " +
+            "OR (p.updatedAt = :cursorUpdatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    Slice<PostSummary> findSummarySliceByMemberId(
+            @Param("memberId") Long memberId,
+            @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("SELECT new rewviewjom.backend.post.domain.repository.PostIndexRow(p.id, p.status, p.updatedAt) " +
+            "FROM Post p " +
+            "WHERE p.id > :afterId " +
+            "ORDER BY p.id")
+    List<PostIndexRow> findIndexRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1, p.revision = p.revision + 1 " +
+            "WHERE p.id = :postId AND p.deleted = false")
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    // 카운트가 이미 0 으로 어긋나 있어도 댓글 목록은 바뀌었으므로 revision 은 항상 올린다
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount > 0 THEN p.commentCount - 1 ELSE 0 END, " +
+            "p.revision = p.revision + 1 " +
+            "WHERE p.id = :postId")
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    @Query("SELECT p.revision FROM Post p WHERE p.id = :postId")
+    Optional<Long> findRevisionById(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.revision = p.revision + 1 WHERE p.id = :postId")
+    int increaseRevision(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.revision = p.revision + 1 WHERE p.id IN :postIds")
+    int increaseRevisionByIdIn(@Param("postIds") List<Long> postIds);
+
+    // 닉네임 변경 후 revision 갱신 대상. idx_comment_member_post 를 post_id 키셋으로 읽는다
+    @Query("SELECT DISTINCT c.post.id FROM Comment c " +
+            "WHERE c.member.id = :memberId AND c.post.id > :afterId " +
+            "ORDER BY c.post.id")
+    List<Long> findCommentedPostIdsAfter(
+            @Param("memberId") Long memberId,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query(value = "SELECT MAX(t.id) FROM (" +
+            "SELECT p.id FROM post p WHERE p.id > :afterId ORDER BY p.id LIMIT :limit) t",
+            nativeQuery = true)
+    Long findBatchUpperId(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE post p " +
+            "SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted = false) " +
+            "WHERE p.id > :fromId AND p.id <= :toId " +
+            "AND p.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted = false)",
+            nativeQuery = true)
+    int reconcileCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,19 @@
+package rewviewjom.backend.post.domain.repository;
+
+import rewviewjom.backend.post.domain.PostStatus;
+
+import java.time.LocalDateTime;
+
+public record PostSummary(
+        Long id,
+        String title,
+        String excerpt,
+        PostStatus status,
+        int commentCount,
+        LocalDateTime updatedAt,
+        Long memberId,
+        String memberNickname,
+        String memberProfileImage,
+        LocalDateTime memberCreatedAt
+) {
+}
@@ -0,0 +1,4 @@
+package rewviewjom.backend.post.domain.repository;
+
+public record PostTagId(Long postId, Long tagId) {
+}
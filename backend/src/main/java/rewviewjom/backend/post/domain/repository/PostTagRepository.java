@@ -0,0 +1,17 @@
+package rewviewjom.backend.post.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rewviewjom.backend.post.domain.PostTag;
+
+import java.util.List;
+
+public interface PostTagRepository extends JpaRepository<PostTag, Long> {
+
+    @Query("SELECT new rewviewjom.backend.post.domain.repository.PostTagId(pt.post.id, pt.tag.id) " +
+            "FROM PostTag pt " +
+            "WHERE pt.post.id IN :postIds " +
+            "ORDER BY pt.post.id, pt.id")
+    List<PostTagId> findTagIdsByPostIdIn(@Param("postIds") List<Long> postIds);
+}
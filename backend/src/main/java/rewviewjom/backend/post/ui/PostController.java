@@ -6,12 +6,26 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import rewviewjom.backend.global.response.ApiResponse;
+import rewviewjom.backend.global.response.CursorResponse;
 import rewviewjom.backend.global.response.PageResponse;
+import rewviewjom.backend.post.application.PostExportService;
 import rewviewjom.backend.post.application.PostService;
 import rewviewjom.backend.post.application.dto.*;
 import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.post.domain.TagMatch;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/posts")
@@ -19,6 +33,7 @@ import rewviewjom.backend.post.domain.PostStatus;
 public class PostController {
 
     private final PostService postService;
+    private final PostExportService postExportService;
 
     @PostMapping
     public ApiResponse<PostResponse> createPost(
@@ -28,23 +43,86 @@ public class PostController {
     }
 
     @GetMapping("/{postId}")
-    public ApiResponse<PostResponse> getPost(@PathVariable Long postId) {
-        return ApiResponse.success(postService.getPost(postId));
+    public ResponseEntity<ApiResponse<PostResponse>> getPost(@PathVariable Long postId, WebRequest webRequest) {
+        // 조건부 요청이면 캐시된 본문의 revision, 없으면 revision 한 컬럼만 읽어 비교하고 304 면 본문을 조립하지 않는다
+        Optional<PostResponse> cached = postService.getCachedPost(postId);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> revision = cached.map(PostResponse::getRevision)
+                    .or(() -> postService.getPostRevision(postId));
+            if (revision.isPresent()) {
+                String eTag = postETag(postId, revision.get());
+                if (webRequest.checkNotModified(eTag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+                }
+            }
+        }
+        // ETag 는 응답 본문과 같은 객체의 revision 으로 만든다
+        PostResponse post = cached.orElseGet(() -> postService.getPost(postId));
+        return ResponseEntity.ok()
+                .eTag(postETag(postId, post.getRevision()))
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(post));
     }
 
     @GetMapping
     public ApiResponse<PageResponse<PostListResponse>> getPosts(
             @RequestParam(required = false) PostStatus status,
             @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) List<Long> tagIds,
+            @RequestParam(defaultValue = "ANY") TagMatch tagMatch,
+            @RequestParam(defaultValue = "false") boolean approximateCount,
             @PageableDefault(size = 10) Pageable pageable) {
-        return ApiResponse.success(postService.getPosts(status, keyword, pageable));
+        return ApiResponse.success(
+                postService.getPosts(status, keyword, tagIds, tagMatch, approximateCount, pageable));
+    }
+
+    @GetMapping("/scroll")
+    public ApiResponse<CursorResponse<PostListResponse>> getPostsByCursor(
+            @RequestParam(required = false) PostStatus status,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ApiResponse.success(postService.getPostsByCursor(status, cursor, pageable.getPageSize()));
     }
 
     @GetMapping("/me")
     public ApiResponse<PageResponse<PostListResponse>> getMyPosts(
             @RequestAttribute("memberId") Long memberId,
+            @RequestParam(defaultValue = "false") boolean approximateCount,
             @PageableDefault(size = 10) Pageable pageable) {
-        return ApiResponse.success(postService.getMyPosts(memberId, pageable));
+        return ApiResponse.success(postService.getMyPosts(memberId, approximateCount, pageable));
+    }
+
+    @GetMapping("/me/scroll")
+    public ApiResponse<CursorResponse<PostListResponse>> getMyPostsByCursor(
+            @RequestAttribute("memberId") Long memberId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ApiResponse.success(postService.getMyPostsByCursor(memberId, cursor, pageable.getPageSize()));
+    }
+
+    // 전체 게시글 NDJSON 덤프. 마지막으로 받은 id 를 afterId 로 넘기면 이어받기, Accept-Encoding: gzip 이면 압축
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = outputStream -> {
+            if (!gzip) {
+                postExportService.export(afterId, outputStream);
+                return;
+            }
+            // syncFlush 로 주기적 flush 마다 압축된 블록을 내보낸다
+            try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, true)) {
+                postExportService.export(afterId, gzipStream);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @PutMapping("/{postId}")
@@ -70,4 +148,8 @@ public class PostController {
         postService.deletePost(memberId, postId);
         return ApiResponse.success();
     }
+
+    private static String postETag(Long postId, long revision) {
+        return "\"p" + postId + "-r" + revision + "\"";
+    }
 }
@@ -0,0 +1,114 @@
+package rewviewjom.backend.tag.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import rewviewjom.backend.global.response.ApiResponse;
+import rewviewjom.backend.tag.application.dto.TagResponse;
+import rewviewjom.backend.tag.domain.TagCategory;
+import rewviewjom.backend.tag.domain.repository.TagRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그 전체의 불변 스냅샷. 시작 시 한 번 적재하고 태그가 바뀌면 {@link #refresh()} 로 통째로 교체한다.
+ * 목록 API 응답은 미리 직렬화한 바이트를 그대로 내보낸다 (반환된 배열은 수정하지 말 것).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagCatalog implements SmartInitializingSingleton {
+
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    public void refresh() {
+        List<TagResponse> tags = tagRepository.findAll(Sort.by("id")).stream()
+                .map(TagResponse::from)
+                .toList();
+        snapshot = Snapshot.of(tags, objectMapper);
+        log.info("Tag catalog loaded: tags={}", tags.size());
+    }
+
+    public TagResponse get(Long tagId) {
+        return snapshot.byId().get(tagId);
+    }
+
+    public boolean containsAll(Collection<Long> tagIds) {
+        return snapshot.byId().keySet().containsAll(tagIds);
+    }
+
+    public List<TagResponse> getAll() {
+        return snapshot.all();
+    }
+
+    public List<TagResponse> getByCategory(TagCategory category) {
+        return snapshot.byCategory().get(category);
+    }
+
+    public byte[] getAllJson() {
+        return snapshot.allJson();
+    }
+
+    public byte[] getCategoryJson(TagCategory category) {
+        return snapshot.categoryJson().get(category);
+    }
+
+    private record Snapshot(
+            Map<Long, TagResponse> byId,
+            List<TagResponse> all,
+            Map<TagCategory, List<TagResponse>> byCategory,
+            byte[] allJson,
+            Map<TagCategory, byte[]> categoryJson) {
+
+        static Snapshot of(List<TagResponse> tags, ObjectMapper objectMapper) {
+            Map<TagCategory, List<TagResponse>> byCategory = new EnumMap<>(TagCategory.class);
+            Map<TagCategory, byte[]> categoryJson = new EnumMap<>(TagCategory.class);
+            for (TagCategory category : TagCategory.values()) {
+                List<TagResponse> categoryTags = new ArrayList<>();
+                for (TagResponse tag : tags) {
+                    if (tag.getCategory() == category) {
+                        categoryTags.add(tag);
+                    }
+                }
+                byCategory.put(category, List.copyOf(categoryTags));
+                categoryJson.put(category, serialize(objectMapper, byCategory.get(category)));
+            }
+
+            Map<Long, TagResponse> byId = new HashMap<>();
+            tags.forEach(tag -> byId.put(tag.getId(), tag));
+
+            return new Snapshot(
+                    Map.copyOf(byId),
+                    tags,
+                    Collections.unmodifiableMap(byCategory),
+                    serialize(objectMapper, tags),
+                    Collections.unmodifiableMap(categoryJson));
+        }
+
+        private static byte[] serialize(ObjectMapper objectMapper, List<TagResponse> tags) {
+            try {
+                return objectMapper.writeValueAsBytes(ApiResponse.success(tags));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize tag catalog", e);
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import rewviewjom.backend.tag.domain.Tag;
 import rewviewjom.backend.tag.domain.TagCategory;
 import rewviewjom.backend.tag.domain.repository.TagRepository;
 
+import java.util.HashSet;
 import java.util.List;
 
 @Service
@@ -18,25 +19,29 @@ import java.util.List;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final TagCatalog tagCatalog;
 
-
-    public List<TagResponse> getAllTags() {
-        return tagRepository.findAll().stream()
-                .map(TagResponse::from)
-                .toList();
+    public byte[] getAllTagsJson() {
+        return tagCatalog.getAllJson();
     }
 
-    public List<TagResponse> getTagsByCategory(TagCategory category) {
-        return tagRepository.findByCategory(category).stream()
-                .map(TagResponse::from)
-                .toList();
+    public byte[] getTagsJsonByCategory(TagCategory category) {
+        return tagCatalog.getCategoryJson(category);
     }
 
+    // 카탈로그로 검증하고 FK 연결용 참조(프록시)만 반환, 중복 id 는 기존과 같이 거부
     public List<Tag> getTagsByIds(List<Long> tagIds) {
-        List<Tag> tags = tagRepository.findAllByIdIn(tagIds);
-        if (tags.size() != tagIds.size()) {
+        if (new HashSet<>(tagIds).size() != tagIds.size() || !tagCatalog.containsAll(tagIds)) {
             throw new BusinessException(ErrorCode.TAG_NOT_FOUND);
         }
-        return tags;
+        return tagIds.stream()
+                .map(tagRepository::getReferenceById)
+                .toList();
+    }
+
+    public List<TagResponse> getTagResponsesByIds(List<Long> tagIds) {
+        return tagIds.stream()
+                .map(tagCatalog::get)
+                .toList();
     }
 }
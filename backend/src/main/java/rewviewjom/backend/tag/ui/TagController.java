@@ -1,17 +1,15 @@
 package rewviewjom.backend.tag.ui;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import rewviewjom.backend.global.response.ApiResponse;
 import rewviewjom.backend.tag.application.TagService;
-import rewviewjom.backend.tag.application.dto.TagResponse;
 import rewviewjom.backend.tag.domain.TagCategory;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/tags")
 @RequiredArgsConstructor
@@ -19,12 +17,15 @@ public class TagController {
 
     private final TagService tagService;
 
-    @GetMapping
-    public ApiResponse<List<TagResponse>> getAllTags(
+    // ApiResponse<List<TagResponse>> 를 미리 직렬화한 바이트
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllTags(
             @RequestParam(required = false) TagCategory category) {
-        if (category != null) {
-            return ApiResponse.success(tagService.getTagsByCategory(category));
-        }
-        return ApiResponse.success(tagService.getAllTags());
+        byte[] body = category != null
+                ? tagService.getTagsJsonByCategory(category)
+                : tagService.getAllTagsJson();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
@@ -0,0 +1,57 @@
+-- Flyway 도입 전 ddl-auto: update 가 만들어 온 스키마 (id 는 IDENTITY, 댓글 수는 @Formula 로 계산하던 시점)
+-- 기존 DB 는 spring.flyway.baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용하므로 이 파일은 바꾸지 않는다
+
+CREATE TABLE tag (
+    id       BIGINT                         NOT NULL AUTO_INCREMENT,
+    name     VARCHAR(50)                    NOT NULL,
+    category ENUM ('FRAMEWORK', 'LANGUAGE') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tag_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE member (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    nickname      VARCHAR(20)  NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    profile_image VARCHAR(500),
+    deleted       BIT          NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_member_nickname UNIQUE (nickname)
+) ENGINE = InnoDB;
+
+CREATE TABLE post (
+    id         BIGINT                      NOT NULL AUTO_INCREMENT,
+    member_id  BIGINT                      NOT NULL,
+    title      VARCHAR(255)                NOT NULL,
+    content    TEXT                        NOT NULL,
+    status     ENUM ('SOLVED', 'UNSOLVED') NOT NULL,
+    deleted    BIT                         NOT NULL,
+    created_at DATETIME(6)                 NOT NULL,
+    updated_at DATETIME(6)                 NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_tag (
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    post_id BIGINT NOT NULL,
+    tag_id  BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_tag_post FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT fk_post_tag_tag FOREIGN KEY (tag_id) REFERENCES tag (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comment (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT      NOT NULL,
+    member_id  BIGINT      NOT NULL,
+    content    TEXT        NOT NULL,
+    deleted    BIT         NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_post FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT fk_comment_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,2 @@
+-- 키워드 검색용, 한글 검색을 위해 ngram parser 사용 (ngram_token_size 기본값 2)
+CREATE FULLTEXT INDEX ft_post_title_content ON post (title, content) WITH PARSER ngram;
@@ -0,0 +1,6 @@
+-- @Formula 서브쿼리 대신 저장하는 댓글 수 (댓글 생성/삭제 시 벌크 UPDATE, CommentCountReconciler 가 주기적으로 보정)
+ALTER TABLE post ADD COLUMN comment_count INT DEFAULT 0 NOT NULL;
+
+-- 기존 게시글은 살아있는 댓글 수로 채운다 (정합성 보정 배치를 기다리지 않도록)
+UPDATE post p
+SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted = false);
@@ -0,0 +1,7 @@
+-- 목록 카드 미리보기용 (목록 조회에서 content 를 읽지 않는다)
+ALTER TABLE post ADD COLUMN excerpt VARCHAR(200);
+
+-- 기존 게시글도 Post.toExcerpt 와 같이 공백을 하나로 줄이고 앞 200자를 채운다
+UPDATE post
+SET excerpt = LEFT(TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' ')), 200)
+WHERE excerpt IS NULL;
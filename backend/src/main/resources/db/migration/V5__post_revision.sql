@@ -0,0 +1,2 @@
+-- 상세/댓글 응답의 ETag 용, 게시글·댓글 변경 시 증가
+ALTER TABLE post ADD COLUMN revision BIGINT DEFAULT 0 NOT NULL;
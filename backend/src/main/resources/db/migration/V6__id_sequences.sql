@@ -0,0 +1,10 @@
+-- IDENTITY 대신 pooled 시퀀스 (INSERT 배치용). MySQL 에서는 {table}_seq 테이블로 에뮬레이션한다
+-- 기존 id 뒤에서 시작하고, 기동 시 IdSequenceAligner 가 allocationSize 만큼 여유를 더 둔다
+CREATE TABLE member_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO member_seq SELECT COALESCE(MAX(id), 0) + 1 FROM member;
+CREATE TABLE post_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO post_seq SELECT COALESCE(MAX(id), 0) + 1 FROM post;
+CREATE TABLE post_tag_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO post_tag_seq SELECT COALESCE(MAX(id), 0) + 1 FROM post_tag;
+CREATE TABLE comment_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO comment_seq SELECT COALESCE(MAX(id), 0) + 1 FROM comment;
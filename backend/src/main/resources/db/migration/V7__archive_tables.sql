@@ -0,0 +1,31 @@
+-- SoftDeleteArchiver 가 보관 기간이 지난 soft delete 게시글/태그/댓글을 옮기는 테이블
+CREATE TABLE post_archive (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    member_id     BIGINT       NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    content       TEXT         NOT NULL,
+    excerpt       VARCHAR(200),
+    status        VARCHAR(20)  NOT NULL,
+    comment_count INT          NOT NULL,
+    revision      BIGINT       NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    archived_at   DATETIME(6)  NOT NULL
+) ENGINE = InnoDB;
+
+CREATE TABLE post_tag_archive (
+    id          BIGINT      NOT NULL PRIMARY KEY,
+    post_id     BIGINT      NOT NULL,
+    tag_id      BIGINT      NOT NULL,
+    archived_at DATETIME(6) NOT NULL
+) ENGINE = InnoDB;
+
+CREATE TABLE comment_archive (
+    id          BIGINT      NOT NULL PRIMARY KEY,
+    post_id     BIGINT      NOT NULL,
+    member_id   BIGINT      NOT NULL,
+    content     TEXT        NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL
+) ENGINE = InnoDB;
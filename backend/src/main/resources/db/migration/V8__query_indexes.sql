@@ -0,0 +1,17 @@
+-- 리포지토리 쿼리별 복합 인덱스. 정렬 컬럼까지 포함해 filesort 없이 LIMIT 만큼만 읽는다
+-- (QueryPlanTest 가 각 쿼리의 실행 계획을 검증)
+
+-- 게시글 목록/커서: WHERE deleted = false ORDER BY updated_at DESC, id DESC
+CREATE INDEX idx_post_deleted_updated ON post (deleted, updated_at, id);
+
+-- 상태 필터 목록/커서: WHERE deleted = false AND status = ? ORDER BY updated_at DESC, id DESC
+CREATE INDEX idx_post_deleted_status_updated ON post (deleted, status, updated_at, id);
+
+-- 내 게시글 목록/커서/개수: WHERE member_id = ? AND deleted = false ORDER BY updated_at DESC, id DESC
+CREATE INDEX idx_post_member_deleted_updated ON post (member_id, deleted, updated_at, id);
+
+-- 댓글 목록/커서/스트리밍, 댓글 수 재계산: WHERE post_id = ? AND deleted = false ORDER BY created_at, id
+CREATE INDEX idx_comment_post_deleted_created ON comment (post_id, deleted, created_at, id);
+
+-- 닉네임 변경 시 댓글 단 게시글 revision 갱신: WHERE member_id = ? 의 post_id
+CREATE INDEX idx_comment_member_post ON comment (member_id, post_id);
@@ -0,0 +1,19 @@
+-- 마이페이지 통계용 회원별 카운터. 게시글/댓글 쓰기와 같은 트랜잭션에서 증감한다
+CREATE TABLE member_stats (
+    member_id         BIGINT NOT NULL,
+    post_count        BIGINT NOT NULL,
+    solved_post_count BIGINT NOT NULL,
+    comments_received BIGINT NOT NULL,
+    comments_written  BIGINT NOT NULL,
+    PRIMARY KEY (member_id),
+    CONSTRAINT fk_member_stats_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+-- 기존 회원은 현재 데이터로 채운다 (삭제된 게시글은 제외, 받은 댓글은 살아있는 게시글의 comment_count 합)
+INSERT INTO member_stats (member_id, post_count, solved_post_count, comments_received, comments_written)
+SELECT m.id,
+       (SELECT COUNT(*) FROM post p WHERE p.member_id = m.id AND p.deleted = false),
+       (SELECT COUNT(*) FROM post p WHERE p.member_id = m.id AND p.deleted = false AND p.status = 'SOLVED'),
+       (SELECT COALESCE(SUM(p.comment_count), 0) FROM post p WHERE p.member_id = m.id AND p.deleted = false),
+       (SELECT COUNT(*) FROM comment c WHERE c.member_id = m.id AND c.deleted = false)
+FROM member m;
@@ -0,0 +1,310 @@
+package rewviewjom.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import rewviewjom.backend.post.application.PostDetailCache;
+import rewviewjom.backend.support.QueryCountTestSupport;
+import rewviewjom.backend.tag.domain.Tag;
+import rewviewjom.backend.tag.domain.repository.TagRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 컨트롤러 메서드별 SQL 문장 수 예산. N+1 이 생기면 데이터 건수만큼 문장이 늘어 예산을 넘는다.
+ * 데이터는 API 로 만들어 이벤트 기반 캐시와 인덱스가 운영과 같은 상태가 되게 한다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApiQueryCountTest extends QueryCountTestSupport {
+
+    // pooled 시퀀스(50) 블록을 미리 열어 두어 측정 요청에서는 시퀀스 조회가 없다
+    // (게시글 60/101, 태그 120/151, 댓글 30/51, 회원 1/51 사용, 테스트 전체가 추가로 쓰는 id 보다 여유가 크다)
+    private static final int POST_COUNT = 60;
+    private static final int COMMENT_COUNT = 30;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    private List<Long> tagIds;
+    private Long writerId;
+    private String writer;
+    private Long postId;
+    private Long commentId;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        tagIds = tagRepository.findAll().stream().map(Tag::getId).toList();
+        writerId = signUp("writer");
+        writer = bearer(writerId);
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            postId = createPost(writer, List.of(tagIds.get(i % 5), tagIds.get(5 + i % 5)));
+        }
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            commentId = createComment(writer, postId);
+        }
+    }
+
+    // ===== 게시글 =====
+
+    @Test
+    void 게시글_작성() throws Exception {
+        request(post("/api/v1/posts")
+                .header(HttpHeaders.AUTHORIZATION, writer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "title", "content", "content", "tagIds", tagIds.subList(0, 5)))))
+                // 작성자 + 회원 통계 + 게시글 INSERT + 태그 배치 INSERT 1
+                .executesAtMost(4);
+    }
+
+    @Test
+    void 게시글_상세_조회() throws Exception {
+        postDetailCache.invalidate(postId);
+
+        request(get("/api/v1/posts/{postId}", postId).header(HttpHeaders.AUTHORIZATION, writer))
+                // 게시글(작성자, 태그 fetch join). ETag 도 같은 응답의 revision 으로 만든다
+                .executesAtMost(1);
+    }
+
+    @Test
+    void 게시글_목록_조회() throws Exception {
+        request(get("/api/v1/posts").param("size", "50").header(HttpHeaders.AUTHORIZATION, writer))
+                // 게시글 페이지 + COUNT + 태그 IN 조회
+                .executesAtMost(3);
+    }
+
+    @Test
+    void 게시글_목록_상태와_키워드_필터() throws Exception {
+        request(get("/api/v1/posts")
+                .param("size", "50")
+                .param("status", "UNSOLVED")
+                .param("keyword", "t")
+                .header(HttpHeaders.AUTHORIZATION, writer))
+                // 한 글자 키워드는 LIKE 경로 (FULLTEXT 검색은 MySQL 에서만 동작)
+                .executesAtMost(3);
+    }
+
+    @Test
+    void 게시글_목록_태그_필터() throws Exception {
+        request(get("/api/v1/posts")
+                .param("size", "50")
+                .param("tagIds", tagIds.get(0).toString(), tagIds.get(5).toString())
+                .param("tagMatch", "ALL")
+                .header(HttpHeaders.AUTHORIZATION, writer))
+                // 비트맵 인덱스로 id 를 구한 뒤 게시글 IN + 태그 IN 조회
+                .executesAtMost(2);
+    }
+
+    @Test
+    void 게시글_커서_조회() throws Exception {
+        request(get("/api/v1/posts/scroll").param("size", "50").header(HttpHeaders.AUTHORIZATION, writer))
+                .executesAtMost(2);
+    }
+
+    @Test
+    void 내_게시글_조회() throws Exception {
+        request(get("/api/v1/posts/me").param("size", "50").header(HttpHeaders.AUTHORIZATION, writer))
+                .executesAtMost(3);
+    }
+
+    @Test
+    void 내_게시글_커서_조회() throws Exception {
+        request(get("/api/v1/posts/me/scroll").param("size", "50").header(HttpHeaders.AUTHORIZATION, writer))
+                .executesAtMost(2);
+    }
+
+    @Test
+    void 게시글_수정() throws Exception {
+        Long targetId = createPost(writer, tagIds.subList(0, 2));
+
+        request(put("/api/v1/posts/{postId}", targetId)
+                .header(HttpHeaders.AUTHORIZATION, writer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "updated", "content", "updated", "tagIds", tagIds.subList(1, 3)))))
+                // 게시글 + 태그 컬렉션 + UPDATE + 빠진 태그 DELETE + 새 태그 INSERT + revision + 작성자
+                .executesAtMost(7);
+    }
+
+    @Test
+    void 게시글_상태_변경() throws Exception {
+        Long targetId = createPost(writer, tagIds.subList(0, 3));
+
+        request(patch("/api/v1/posts/{postId}/status", targetId)
+                .header(HttpHeaders.AUTHORIZATION, writer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("status", "SOLVED"))))
+                // 게시글 + UPDATE + revision + 작성자 + 태그 컬렉션 (태그 정보는 카탈로그) + 회원 통계
+                .executesAtMost(6);
+    }
+
+    @Test
+    void 게시글_삭제() throws Exception {
+        Long targetId = createPost(writer, tagIds.subList(0, 2));
+
+        request(delete("/api/v1/posts/{postId}", targetId).header(HttpHeaders.AUTHORIZATION, writer))
+                // 게시글 + UPDATE + 회원 통계
+                .executesAtMost(3);
+    }
+
+    // ===== 댓글 =====
+
+    @Test
+    void 댓글_작성() throws Exception {
+        request(post("/api/v1/posts/{postId}/comments", postId)
+                .header(HttpHeaders.AUTHORIZATION, writer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("content", "comment"))))
+                // 작성자 + 댓글 INSERT + 댓글 수 증가 + 회원 통계 (작성한 댓글, 받은 댓글)
+                .executesAtMost(5);
+    }
+
+    @Test
+    void 댓글_목록_조회() throws Exception {
+        request(get("/api/v1/posts/{postId}/comments", postId).header(HttpHeaders.AUTHORIZATION, writer))
+                // revision + 댓글(작성자 fetch join)
+                .executesAtMost(2);
+    }
+
+    @Test
+    void 댓글_커서_조회() throws Exception {
+        request(get("/api/v1/posts/{postId}/comments/scroll", postId)
+                .param("size", "20")
+                .header(HttpHeaders.AUTHORIZATION, writer))
+                .executesAtMost(1);
+    }
+
+    @Test
+    void 댓글_스트리밍() throws Exception {
+        request(get("/api/v1/posts/{postId}/comments/stream", postId).header(HttpHeaders.AUTHORIZATION, writer))
+                .executesAtMost(1);
+    }
+
+    @Test
+    void 댓글_수정() throws Exception {
+        request(patch("/api/v1/comments/{commentId}", commentId)
+                .header(HttpHeaders.AUTHORIZATION, writer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("content", "updated"))))
+                // 댓글(작성자, 게시글 fetch join) + revision + UPDATE
+                .executesAtMost(3);
+    }
+
+    @Test
+    void 댓글_삭제() throws Exception {
+        Long targetId = createComment(writer, postId);
+
+        request(delete("/api/v1/comments/{commentId}", targetId).header(HttpHeaders.AUTHORIZATION, writer))
+                // 댓글 + UPDATE + 댓글 수 감소 + 회원 통계 (작성한 댓글, 받은 댓글)
+                .executesAtMost(5);
+    }
+
+    // ===== 회원 =====
+
+    @Test
+    void 회원_가입() throws Exception {
+        request(post("/api/v1/members/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("nickname", "newbie", "password", "password"))))
+                // 닉네임 중복 확인 + INSERT + 회원 통계 INSERT
+                .executesAtMost(3);
+    }
+
+    @Test
+    void 로그인() throws Exception {
+        request(post("/api/v1/members/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("nickname", "writer", "password", "password"))))
+                .executesAtMost(1);
+    }
+
+    @Test
+    void 내_정보_조회() throws Exception {
+        request(get("/api/v1/members/me").header(HttpHeaders.AUTHORIZATION, writer))
+                .executesAtMost(1);
+    }
+
+    @Test
+    void 내_통계_조회() throws Exception {
+        request(get("/api/v1/members/me/stats").header(HttpHeaders.AUTHORIZATION, writer))
+                .executesAtMost(1);
+    }
+
+    @Test
+    void 닉네임_변경() throws Exception {
+        String member = bearer(signUp("renamer"));
+
+        request(patch("/api/v1/members/me")
+                .header(HttpHeaders.AUTHORIZATION, member)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("nickname", "renamed"))))
+                // 중복 확인 + 회원 + UPDATE, 커밋 후 작성 글/댓글 단 글 키셋 조회 (대상이 없어 revision UPDATE 는 없음)
+                .executesAtMost(5);
+    }
+
+    @Test
+    void 회원_조회() throws Exception {
+        request(get("/api/v1/members/{id}", writerId))
+                .executesAtMost(1);
+    }
+
+    // ===== 태그 =====
+
+    @Test
+    void 태그_목록_조회는_DB를_조회하지_않는다() throws Exception {
+        request(get("/api/v1/tags").header(HttpHeaders.AUTHORIZATION, writer))
+                .executesAtMost(0);
+        request(get("/api/v1/tags").param("category", "LANGUAGE").header(HttpHeaders.AUTHORIZATION, writer))
+                .executesAtMost(0);
+    }
+
+    private Long signUp(String nickname) throws Exception {
+        return idOf(mockMvc.perform(post("/api/v1/members/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("nickname", nickname, "password", "password")))));
+    }
+
+    private Long createPost(String token, List<Long> postTagIds) throws Exception {
+        return idOf(mockMvc.perform(post("/api/v1/posts")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "title", "content", "content", "tagIds", postTagIds)))));
+    }
+
+    private Long createComment(String token, Long targetPostId) throws Exception {
+        return idOf(mockMvc.perform(post("/api/v1/posts/{postId}/comments", targetPostId)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("content", "comment")))));
+    }
+
+    private Long idOf(ResultActions actions) throws Exception {
+        String body = actions.andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        JsonNode data = objectMapper.readTree(body).path("data");
+        return data.path("id").asLong();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
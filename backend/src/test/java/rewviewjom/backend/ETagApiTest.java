@@ -0,0 +1,172 @@
+package rewviewjom.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import rewviewjom.backend.global.jwt.JwtTokenProvider;
+import rewviewjom.backend.post.application.PostDetailCache;
+import rewviewjom.backend.tag.domain.Tag;
+import rewviewjom.backend.tag.domain.repository.TagRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 상세와 댓글 목록의 조건부 요청(If-None-Match) 검증.
+ * 쓰기가 revision 을 올리지 않으면 클라이언트가 이전 본문을 계속 쓰게 되므로 쓰기마다 ETag 가 바뀌는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ETagApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    private List<Long> tagIds;
+    private String writer;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        tagIds = tagRepository.findAll().stream().map(Tag::getId).toList();
+        Long writerId = idOf(mockMvc.perform(post("/api/v1/members/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("nickname", "etag-writer", "password", "password")))));
+        writer = "Bearer " + jwtTokenProvider.createToken(writerId);
+    }
+
+    // ===== 게시글 상세 =====
+
+    @Test
+    void 게시글_상세는_ETag_가_같으면_304_를_반환한다() throws Exception {
+        Long postId = createPost();
+        String eTag = eTagOf(get("/api/v1/posts/{postId}", postId));
+
+        notModified(get("/api/v1/posts/{postId}", postId), eTag);
+        // 캐시에 없으면 revision 만 읽어 비교한다
+        postDetailCache.invalidate(postId);
+        notModified(get("/api/v1/posts/{postId}", postId), eTag);
+    }
+
+    @Test
+    void 게시글을_수정하면_상세_ETag_가_바뀐다() throws Exception {
+        Long postId = createPost();
+        String before = eTagOf(get("/api/v1/posts/{postId}", postId));
+
+        mockMvc.perform(put("/api/v1/posts/{postId}", postId)
+                        .header(HttpHeaders.AUTHORIZATION, writer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("title", "updated", "content", "updated", "tagIds", tagIds.subList(1, 2)))))
+                .andExpect(status().isOk());
+
+        String after = mockMvc.perform(get("/api/v1/posts/{postId}", postId)
+                        .header(HttpHeaders.AUTHORIZATION, writer)
+                        .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).isNotNull().isNotEqualTo(before);
+    }
+
+    // ===== 댓글 목록 =====
+
+    @Test
+    void 댓글_목록은_ETag_가_같으면_304_를_반환한다() throws Exception {
+        Long postId = createPost();
+        createComment(postId);
+        String eTag = eTagOf(get("/api/v1/posts/{postId}/comments", postId));
+
+        notModified(get("/api/v1/posts/{postId}/comments", postId), eTag);
+    }
+
+    @Test
+    void 댓글을_작성_수정_삭제할_때마다_댓글_목록_ETag_가_바뀐다() throws Exception {
+        Long postId = createPost();
+        List<String> eTags = new ArrayList<>();
+        eTags.add(eTagOf(get("/api/v1/posts/{postId}/comments", postId)));
+
+        Long commentId = createComment(postId);
+        eTags.add(eTagOf(get("/api/v1/posts/{postId}/comments", postId)));
+
+        mockMvc.perform(patch("/api/v1/comments/{commentId}", commentId)
+                        .header(HttpHeaders.AUTHORIZATION, writer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("content", "updated"))))
+                .andExpect(status().isOk());
+        eTags.add(eTagOf(get("/api/v1/posts/{postId}/comments", postId)));
+
+        mockMvc.perform(delete("/api/v1/comments/{commentId}", commentId)
+                        .header(HttpHeaders.AUTHORIZATION, writer))
+                .andExpect(status().isOk());
+        eTags.add(eTagOf(get("/api/v1/posts/{postId}/comments", postId)));
+
+        assertThat(eTags).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    private String eTagOf(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, writer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private void notModified(MockHttpServletRequestBuilder request, String eTag) throws Exception {
+        mockMvc.perform(request
+                        .header(HttpHeaders.AUTHORIZATION, writer)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    private Long createPost() throws Exception {
+        return idOf(mockMvc.perform(post("/api/v1/posts")
+                .header(HttpHeaders.AUTHORIZATION, writer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "title", "content", "content", "tagIds", tagIds.subList(0, 1))))));
+    }
+
+    private Long createComment(Long postId) throws Exception {
+        return idOf(mockMvc.perform(post("/api/v1/posts/{postId}/comments", postId)
+                .header(HttpHeaders.AUTHORIZATION, writer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("content", "comment")))));
+    }
+
+    private Long idOf(ResultActions actions) throws Exception {
+        String body = actions.andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data").path("id").asLong();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
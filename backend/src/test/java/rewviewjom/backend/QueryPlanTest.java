@@ -0,0 +1,279 @@
+package rewviewjom.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import rewviewjom.backend.comment.domain.repository.CommentRepository;
+import rewviewjom.backend.member.domain.repository.MemberRepository;
+import rewviewjom.backend.member.domain.repository.MemberStatsRepository;
+import rewviewjom.backend.post.application.PostExportService;
+import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.post.domain.repository.PostRepository;
+import rewviewjom.backend.post.domain.repository.PostTagRepository;
+import rewviewjom.backend.support.StatementRecorder;
+import rewviewjom.backend.support.StatementRecorder.RecordedStatement;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리마다 Hibernate 가 실제로 실행한 SQL 을 MySQL 에서 EXPLAIN 해
+ * 풀 테이블 스캔(type = ALL)이나 filesort 가 있으면 실패한다. 스키마는 Flyway 마이그레이션으로 만든다.
+ * Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.defer-datasource-initialization=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.sql.init.mode=never",
+        "post.export.batch-size=32"   // 내보내기 배치 경계를 여러 번 넘도록
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final int MEMBER_COUNT = 50;
+    private static final int POST_COUNT = 3_000;
+    private static final int COMMENT_COUNT = 9_000;
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberStatsRepository memberStatsRepository;
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 옵티마이저가 실제 분포로 계획을 세우도록 충분한 데이터를 넣고 통계를 갱신
+    @BeforeAll
+    void setUp() {
+        List<Long> tagIds = jdbcTemplate.queryForList("SELECT id FROM tag ORDER BY id", Long.class);
+
+        batch("INSERT INTO member (id, nickname, password, deleted, created_at, updated_at) VALUES (?, ?, 'pw', false, ?, ?)",
+                MEMBER_COUNT, i -> new Object[]{i, "member" + i, at(i), at(i)});
+        batch("INSERT INTO member_stats (member_id, post_count, solved_post_count, comments_received, comments_written) " +
+                        "VALUES (?, 0, 0, 0, 0)",
+                MEMBER_COUNT, i -> new Object[]{i});
+        batch("INSERT INTO post (id, member_id, title, content, excerpt, status, comment_count, revision, deleted, " +
+                        "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 3, 0, ?, ?, ?)",
+                POST_COUNT, i -> new Object[]{i, 1 + i % MEMBER_COUNT, "title " + i, "spring index content " + i,
+                        "excerpt", i % 3 == 0 ? "SOLVED" : "UNSOLVED", i % 10 == 0, at(i), at(i)});
+        batch("INSERT INTO post_tag (id, post_id, tag_id) VALUES (?, ?, ?)",
+                POST_COUNT * 2, i -> new Object[]{i, 1 + (i - 1) / 2, tagIds.get(i % tagIds.size())});
+        batch("INSERT INTO comment (id, post_id, member_id, content, deleted, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, 'comment', ?, ?, ?)",
+                COMMENT_COUNT, i -> new Object[]{i, 1 + i % POST_COUNT, 1 + i % MEMBER_COUNT, i % 20 == 0, at(i), at(i)});
+
+        jdbcTemplate.execute("ANALYZE TABLE member, member_stats, post, post_tag, comment");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> 리포지토리_쿼리는_풀스캔과_filesort_없이_실행된다() {
+        LocalDateTime cursorAt = at(POST_COUNT / 2);
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+
+        queries.put("게시글 목록", () -> postRepository.findSummariesWithFilter(null, null, page()));
+        queries.put("게시글 목록 상태 필터", () -> postRepository.findSummariesWithFilter(PostStatus.SOLVED, null, page()));
+        queries.put("게시글 목록 LIKE 검색", () -> postRepository.findSummariesWithFilter(null, "spring", page()));
+        queries.put("게시글 개수", () -> postRepository.countWithFilter(null, null));
+        queries.put("게시글 개수 상태 필터", () -> postRepository.countWithFilter(PostStatus.UNSOLVED, null));
+        queries.put("게시글 상세", () -> postRepository.findDetailById(1L));
+        queries.put("게시글 id 목록", () -> postRepository.findSummariesByIdIn(List.of(1L, 2L, 3L)));
+        queries.put("내 게시글", () -> postRepository.findSummariesByMemberId(1L, page()));
+        queries.put("내 게시글 개수", () -> postRepository.countByMemberId(1L));
+        queries.put("게시글 커서 첫 페이지", () -> postRepository.findSummarySliceWithFilter(null, null, null, page()));
+        queries.put("게시글 커서", () -> postRepository.findSummarySliceWithFilter(null, cursorAt, 1_500L, page()));
+        queries.put("게시글 커서 상태 필터", () -> postRepository.findSummarySliceWithFilter(PostStatus.SOLVED, cursorAt, 1_500L, page()));
+        queries.put("내 게시글 커서", () -> postRepository.findSummarySliceByMemberId(1L, cursorAt, 1_500L, page()));
+        queries.put("비트맵 인덱스 적재", () -> postRepository.findIndexRowsAfter(0L, PageRequest.of(0, 1_000)));
+        queries.put("댓글 수 증가", () -> postRepository.increaseCommentCount(1L));
+        queries.put("댓글 수 감소", () -> postRepository.decreaseCommentCount(1L));
+        queries.put("revision 조회", () -> postRepository.findRevisionById(1L));
+        queries.put("revision 증가", () -> postRepository.increaseRevision(1L));
+        queries.put("revision 일괄 증가", () -> postRepository.increaseRevisionByIdIn(List.of(1L, 2L, 3L)));
+        queries.put("댓글 단 게시글 id", () -> postRepository.findCommentedPostIdsAfter(1L, 0L, PageRequest.of(0, 500)));
+        queries.put("댓글 수 재계산 배치 경계", () -> postRepository.findBatchUpperId(0L, 500));
+        queries.put("댓글 수 재계산", () -> postRepository.reconcileCommentCount(0L, 500L));
+        queries.put("게시글 태그 id", () -> postTagRepository.findTagIdsByPostIdIn(List.of(1L, 2L, 3L)));
+        queries.put("댓글 목록", () -> commentRepository.findByPostIdWithMember(1L));
+        queries.put("댓글 커서 첫 페이지", () -> commentRepository.findSliceByPostId(1L, null, null, PageRequest.of(0, 20)));
+        queries.put("댓글 커서", () -> commentRepository.findSliceByPostId(1L, at(1), 1L, PageRequest.of(0, 20)));
+        queries.put("댓글 스트리밍", () -> {
+            try (var comments = commentRepository.streamByPostId(1L)) {
+                comments.forEach(comment -> { });
+            }
+        });
+        queries.put("댓글 단건", () -> commentRepository.findByIdWithMemberAndPost(1L));
+        queries.put("회원 닉네임 조회", () -> memberRepository.findByNickname("member1"));
+        queries.put("회원 닉네임 중복", () -> memberRepository.existsByNickname("member1"));
+        queries.put("회원 단건", () -> memberRepository.findById(1L));
+        queries.put("회원 통계", () -> memberStatsRepository.findById(1L));
+        queries.put("회원 통계 게시글 증감", () -> memberStatsRepository.addPostStats(1L, 1, 0, 0));
+        queries.put("회원 통계 작성 댓글 증감", () -> memberStatsRepository.addCommentsWritten(1L, 1));
+        queries.put("회원 통계 받은 댓글 증감", () -> memberStatsRepository.addCommentsReceivedByPostId(1L, 1));
+        queries.put("게시글 내보내기", () -> export(POST_COUNT - 100L));
+
+        return queries.entrySet().stream()
+                .map(query -> DynamicTest.dynamicTest(query.getKey(), () -> assertPlans(query.getValue())));
+    }
+
+    // 관련도 정렬은 filesort 가 불가피하므로 FULLTEXT 인덱스 사용만 검증
+    @TestFactory
+    Stream<DynamicTest> 키워드_검색은_FULLTEXT_인덱스를_사용한다() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("키워드 검색", () -> postRepository.searchIdsByKeyword(null, "\"spring\"", page()));
+        queries.put("키워드 검색 개수", () -> postRepository.countByKeyword(null, "\"spring\""));
+
+        return queries.entrySet().stream()
+                .map(query -> DynamicTest.dynamicTest(query.getKey(), () -> {
+                    for (RecordedStatement statement : recordInRollbackTransaction(query.getValue())) {
+                        assertThat(explain(statement))
+                                .anySatisfy(row -> assertThat(row.get("key")).isEqualTo("ft_post_title_content"));
+                    }
+                }));
+    }
+
+    // 내보내기는 여러 배치에 걸친 게시글/댓글 병합 결과까지 MySQL 에서 확인
+    @Test
+    void 게시글_내보내기는_afterId_이후_게시글을_한_줄씩_쓴다() throws Exception {
+        long afterId = POST_COUNT - 100L;
+
+        List<JsonNode> lines = export(afterId).lines()
+                .map(this::readTree)
+                .toList();
+
+        assertThat(lines).hasSize(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post WHERE deleted = false AND id > ?", Integer.class, afterId));
+        assertThat(lines).extracting(line -> line.get("id").asLong())
+                .isSorted()
+                .allSatisfy(id -> assertThat(id).isGreaterThan(afterId));
+        assertThat(lines).allSatisfy(line -> assertThat(line.get("tags")).hasSize(2));
+        assertThat(lines.stream().mapToInt(line -> line.get("comments").size()).sum())
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comment c JOIN post p ON p.id = c.post_id " +
+                        "WHERE c.deleted = false AND p.deleted = false AND p.id > ?", Integer.class, afterId));
+    }
+
+    private void assertPlans(Runnable query) {
+        List<RecordedStatement> statements = recordInRollbackTransaction(query);
+        assertThat(statements).isNotEmpty();
+
+        for (RecordedStatement statement : statements) {
+            for (Map<String, Object> row : explain(statement)) {
+                String table = String.valueOf(row.get("table"));
+                // 파생 테이블(<derived2> 등)과 테이블 없는 행은 제외
+                if (!table.startsWith("<") && row.get("table") != null) {
+                    assertThat(row.get("type")).as("%s\n%s", statement.sql(), row).isNotEqualTo("ALL");
+                }
+                assertThat(String.valueOf(row.get("Extra"))).as("%s\n%s", statement.sql(), row)
+                        .doesNotContain("Using filesort");
+            }
+        }
+    }
+
+    // 변경 쿼리도 실제로 실행되므로 롤백해 다음 쿼리의 데이터에 영향을 주지 않는다
+    private List<RecordedStatement> recordInRollbackTransaction(Runnable query) {
+        return StatementRecorder.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            query.run();
+            status.setRollbackOnly();
+        }));
+    }
+
+    private List<Map<String, Object>> explain(RecordedStatement statement) {
+        return jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameters().toArray());
+    }
+
+    private String export(long afterId) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            postExportService.export(afterId, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void batch(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            rows.add(row.apply(i));
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    private static PageRequest page() {
+        return PageRequest.of(0, 10);
+    }
+
+    private static LocalDateTime at(int i) {
+        return NOW.minusMinutes(100_000L - i);
+    }
+}
@@ -0,0 +1,99 @@
+package rewviewjom.backend;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 도입 전 ddl-auto 로 만들어진 운영 DB 를 흉내 내 데이터를 넣어 두고,
+ * baseline-on-migrate 로 V2 부터 적용한 뒤 ddl-auto: validate 로 기동되는지 확인한다.
+ * Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.defer-datasource-initialization=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.sql.init.mode=never"
+})
+class SchemaMigrationTest {
+
+    private static final String LONG_CONTENT = "가".repeat(300);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 스프링 컨텍스트(Flyway)보다 먼저 실행되어 flyway_schema_history 가 없는 기존 DB 를 만든다
+    @BeforeAll
+    static void createBaselineDatabase() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline.sql")).execute(dataSource);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO tag (name, category) VALUES ('Java', 'LANGUAGE')");
+        jdbcTemplate.update("INSERT INTO member (nickname, password, deleted, created_at, updated_at) " +
+                "VALUES ('legacy', 'pw', false, NOW(6), NOW(6))");
+        jdbcTemplate.update("INSERT INTO post (member_id, title, content, status, deleted, created_at, updated_at) " +
+                "VALUES (1, 'long', ?, 'SOLVED', false, NOW(6), NOW(6))", LONG_CONTENT);
+        jdbcTemplate.update("INSERT INTO post (member_id, title, content, status, deleted, created_at, updated_at) " +
+                "VALUES (1, 'short', 'short content', 'UNSOLVED', false, NOW(6), NOW(6))");
+        jdbcTemplate.update("INSERT INTO post_tag (post_id, tag_id) VALUES (1, 1)");
+        jdbcTemplate.update("INSERT INTO comment (post_id, member_id, content, deleted, created_at, updated_at) " +
+                "VALUES (1, 1, 'live', false, NOW(6), NOW(6)), (1, 1, 'live', false, NOW(6), NOW(6)), " +
+                "(1, 1, 'deleted', true, NOW(6), NOW(6))");
+    }
+
+    @Test
+    void 기존_스키마는_V1_기준선_이후의_마이그레이션만_적용된다() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT type FROM flyway_schema_history WHERE version = '1'", String.class))
+                .isEqualTo("BASELINE");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE success = false", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void 기존_게시글의_댓글_수를_채운다() {
+        assertThat(jdbcTemplate.queryForList("SELECT comment_count FROM post ORDER BY id", Integer.class))
+                .containsExactly(2, 0);
+    }
+
+    @Test
+    void 기존_게시글의_요약을_채운다() {
+        assertThat(jdbcTemplate.queryForList("SELECT excerpt FROM post ORDER BY id", String.class))
+                .containsExactly(LONG_CONTENT.substring(0, 200), "short content");
+    }
+
+    @Test
+    void 기존_데이터로_회원_통계와_시퀀스를_채운다() {
+        Map<String, Object> stats = jdbcTemplate.queryForMap("SELECT * FROM member_stats WHERE member_id = 1");
+        assertThat(stats).containsEntry("post_count", 2L)
+                .containsEntry("solved_post_count", 1L)
+                .containsEntry("comments_received", 2L)
+                .containsEntry("comments_written", 2L);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT next_val FROM post_seq", Long.class)).isGreaterThan(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT next_val FROM comment_seq", Long.class)).isGreaterThan(3L);
+    }
+}
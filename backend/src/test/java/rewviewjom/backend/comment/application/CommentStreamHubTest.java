@@ -0,0 +1,115 @@
+package rewviewjom.backend.comment.application;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import rewviewjom.backend.comment.application.dto.CommentResponse;
+import rewviewjom.backend.comment.application.event.CommentChangedEvent;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentStreamHubTest {
+
+    private static final int BUFFER_SIZE = 2;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CommentStreamHub hub = new CommentStreamHub(
+            JsonMapper.builder().findAndAddModules().build(), meterRegistry,
+            Duration.ofMinutes(1), Duration.ofMinutes(1), BUFFER_SIZE, 10);
+
+    @AfterEach
+    void tearDown() {
+        hub.destroy();
+    }
+
+    @Test
+    void 구독한_게시글의_댓글_변경만_전달된다() throws Exception {
+        RecordingEmitter subscriber = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        hub.subscribe(1L, subscriber);
+        hub.subscribe(2L, other);
+
+        hub.on(event(1L, 10L, CommentChangedEvent.Type.CREATED));
+
+        String sent = subscriber.sent.poll(5, TimeUnit.SECONDS);
+        assertThat(sent).contains("event:created").contains("\"id\":10");
+        assertThat(other.sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(meterRegistry.get("comment.stream.subscribers").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void 큐가_가득_찬_느린_구독자는_연결을_끊는다() throws Exception {
+        BlockedEmitter slow = new BlockedEmitter();
+        RecordingEmitter fast = new RecordingEmitter();
+        hub.subscribe(1L, slow);
+        hub.subscribe(1L, fast);
+
+        // 느린 구독자는 첫 이벤트 전송에서 멈춘 뒤 큐 크기만큼 쌓이고, 그 다음 이벤트에서 제거된다
+        hub.on(event(1L, 1L, CommentChangedEvent.Type.CREATED));
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+        for (long id = 2; id <= BUFFER_SIZE + 2; id++) {
+            hub.on(event(1L, id, CommentChangedEvent.Type.CREATED));
+            assertThat(fast.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        assertThat(meterRegistry.get("comment.stream.evicted").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("comment.stream.subscribers").gauge().value()).isEqualTo(1);
+        // 전송 스레드가 인터럽트로 빠져나온 뒤 연결이 완료된다
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static CommentChangedEvent event(Long postId, Long commentId, CommentChangedEvent.Type type) {
+        return new CommentChangedEvent(postId, type, CommentResponse.builder()
+                .id(commentId)
+                .content("content")
+                .build());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    // SseEmitter.send 가 쓰기 락을 잡은 채 호출하는 내부 send 에서 멈춰, 실제로 소켓 쓰기가 막힌 상황을 흉내 낸다
+    private static class BlockedEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void complete() {
+            super.complete();
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package rewviewjom.backend.global.archive;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import rewviewjom.backend.comment.domain.Comment;
+import rewviewjom.backend.comment.domain.repository.CommentRepository;
+import rewviewjom.backend.member.domain.Member;
+import rewviewjom.backend.member.domain.repository.MemberRepository;
+import rewviewjom.backend.post.domain.Post;
+import rewviewjom.backend.post.domain.repository.PostRepository;
+import rewviewjom.backend.tag.domain.Tag;
+import rewviewjom.backend.tag.domain.repository.TagRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class SoftDeleteArchiverTest {
+
+    @Autowired
+    private SoftDeleteArchiver softDeleteArchiver;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+    private Tag tag;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .nickname("archiver")
+                .password("password")
+                .build());
+        tag = tagRepository.findAll().get(0);
+    }
+
+    @Test
+    void 보관_기간이_지난_삭제_게시글은_댓글_태그와_함께_아카이브로_옮긴다() {
+        Post deletedPost = savePost();
+        Post alivePost = savePost();
+        Comment commentOfDeletedPost = saveComment(deletedPost);
+        Comment deletedComment = saveComment(alivePost);
+        Comment aliveComment = saveComment(alivePost);
+        deletedPost.softDelete();
+        deletedComment.softDelete();
+        entityManager.flush();
+        deletedBefore("post", deletedPost.getId(), 31);
+        deletedBefore("comment", deletedComment.getId(), 31);
+
+        softDeleteArchiver.archive();
+
+        assertThat(count("post", "id", deletedPost.getId())).isZero();
+        assertThat(count("post_tag", "post_id", deletedPost.getId())).isZero();
+        assertThat(count("comment", "post_id", deletedPost.getId())).isZero();
+        assertThat(count("post_archive", "id", deletedPost.getId())).isOne();
+        assertThat(count("post_tag_archive", "post_id", deletedPost.getId())).isOne();
+        assertThat(count("comment_archive", "id", commentOfDeletedPost.getId())).isOne();
+        assertThat(count("comment_archive", "id", deletedComment.getId())).isOne();
+
+        assertThat(count("post", "id", alivePost.getId())).isOne();
+        assertThat(count("comment", "id", aliveComment.getId())).isOne();
+    }
+
+    @Test
+    void 보관_기간이_지나지_않은_삭제_게시글은_남겨둔다() {
+        Post deletedPost = savePost();
+        deletedPost.softDelete();
+        entityManager.flush();
+        deletedBefore("post", deletedPost.getId(), 29);
+
+        softDeleteArchiver.archive();
+
+        assertThat(count("post", "id", deletedPost.getId())).isOne();
+        assertThat(count("post_archive", "id", deletedPost.getId())).isZero();
+    }
+
+    private Post savePost() {
+        Post post = Post.builder()
+                .member(member)
+                .title("title")
+                .content("content")
+                .build();
+        post.addTag(tag);
+        return postRepository.save(post);
+    }
+
+    private Comment saveComment(Post post) {
+        return commentRepository.save(Comment.builder()
+                .member(member)
+                .post(post)
+                .content("comment")
+                .build());
+    }
+
+    private void deletedBefore(String table, Long id, int days) {
+        jdbcTemplate.update("UPDATE " + table + " SET updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(days)), id);
+    }
+
+    private long count(String table, String column, Long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Long.class, id);
+    }
+}
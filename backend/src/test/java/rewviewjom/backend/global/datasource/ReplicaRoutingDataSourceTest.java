@@ -0,0 +1,110 @@
+package rewviewjom.backend.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = database("primary");
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica_로_쓰기_트랜잭션은_primary_로_보낸다() {
+        ReplicaRoutingDataSource routing = routing(Map.of("replica", database("replica")));
+
+        assertThat(currentNode(routing, true)).isEqualTo("replica");
+        assertThat(currentNode(routing, false)).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.routing", "target", "replica", "reason", "read").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 헬스_체크에_실패한_replica_대신_primary_에서_읽는다() {
+        ReplicaRoutingDataSource routing = routing(Map.of("replica", unreachable()));
+
+        routing.checkHealth();
+
+        assertThat(currentNode(routing, true)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.replica.healthy").gauge().value()).isZero();
+    }
+
+    @Test
+    void 커넥션을_얻지_못한_replica_는_즉시_제외하고_primary_로_대체한다() {
+        ReplicaRoutingDataSource routing = routing(Map.of("replica", unreachable()));
+
+        assertThat(currentNode(routing, true)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.replica.healthy").gauge().value()).isZero();
+    }
+
+    @Test
+    void 쓰기_직후_같은_회원의_읽기는_primary_로_보낸다() {
+        ReplicaRoutingDataSource routing = routing(Map.of("replica", database("replica")));
+
+        actAs(1L);
+        currentNode(routing, false);
+        assertThat(currentNode(routing, true)).isEqualTo("primary");
+
+        actAs(2L);
+        assertThat(currentNode(routing, true)).isEqualTo("replica");
+    }
+
+    @Test
+    void onPrimary_블록의_읽기는_primary_로_보낸다() {
+        ReplicaRoutingDataSource routing = routing(Map.of("replica", database("replica")));
+
+        assertThat(ReplicaRoutingDataSource.onPrimary(() -> currentNode(routing, true))).isEqualTo("primary");
+        assertThat(currentNode(routing, true)).isEqualTo("replica");
+    }
+
+    private ReplicaRoutingDataSource routing(Map<String, DataSource> replicas) {
+        return new ReplicaRoutingDataSource(
+                primary, replicas, new ReadYourWritesTracker(Duration.ofSeconds(5)), meterRegistry);
+    }
+
+    private String currentNode(ReplicaRoutingDataSource routing, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void actAs(Long memberId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("memberId", memberId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS node");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static DataSource unreachable() {
+        return new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "");
+    }
+}
@@ -0,0 +1,25 @@
+package rewviewjom.backend.global.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "cmV2aWV3ampvbS1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tZ2VuZXJhdGlvbi0yMDI0";
+
+    @Test
+    void 검증되어_캐시된_토큰도_만료되면_거부한다() throws Exception {
+        // exp 는 초 단위로 잘리므로 발급 직후에도 최소 0.5초는 유효하다
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET, 1_500, 100);
+        String token = jwtTokenProvider.createToken(1L);
+
+        assertThat(jwtTokenProvider.getVerifiedMemberId(token)).contains(1L);
+        assertThat(jwtTokenProvider.getVerifiedMemberId(token)).contains(1L);
+
+        Thread.sleep(2_000);
+
+        assertThat(jwtTokenProvider.getVerifiedMemberId(token)).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package rewviewjom.backend.member.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import rewviewjom.backend.comment.application.CommentService;
+import rewviewjom.backend.comment.application.dto.CommentCreateRequest;
+import rewviewjom.backend.member.application.dto.MemberStatsResponse;
+import rewviewjom.backend.member.application.dto.SignUpRequest;
+import rewviewjom.backend.post.application.PostService;
+import rewviewjom.backend.post.application.dto.PostCreateRequest;
+import rewviewjom.backend.post.application.dto.PostStatusUpdateRequest;
+import rewviewjom.backend.tag.domain.repository.TagRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class MemberServiceTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 회원_통계는_게시글과_댓글_쓰기에_맞춰_증감한다() {
+        Long writerId = signUp("stats-writer");
+        Long commenterId = signUp("stats-commenter");
+
+        Long solvedPostId = createPost(writerId);
+        Long deletedPostId = createPost(writerId);
+        createPost(writerId);
+        postService.updatePostStatus(writerId, solvedPostId,
+                objectMapper.convertValue(Map.of("status", "SOLVED"), PostStatusUpdateRequest.class));
+
+        createComment(commenterId, solvedPostId);
+        Long deletedCommentId = createComment(commenterId, solvedPostId);
+        createComment(commenterId, deletedPostId);
+        createComment(writerId, deletedPostId);
+        commentService.deleteComment(commenterId, deletedCommentId);
+        clear();
+        postService.deletePost(writerId, deletedPostId);
+        clear();
+
+        MemberStatsResponse writer = memberService.getStats(writerId);
+        assertThat(writer.getTotalPosts()).isEqualTo(2);
+        assertThat(writer.getSolvedPosts()).isEqualTo(1);
+        assertThat(writer.getCommentsReceived()).isEqualTo(1);
+        assertThat(writer.getCommentsWritten()).isEqualTo(1);
+
+        MemberStatsResponse commenter = memberService.getStats(commenterId);
+        assertThat(commenter.getTotalPosts()).isZero();
+        assertThat(commenter.getCommentsReceived()).isZero();
+        assertThat(commenter.getCommentsWritten()).isEqualTo(2);
+    }
+
+    // 가입은 테스트 트랜잭션과 별개로 커밋되므로 다른 테스트와 겹치지 않는 닉네임을 쓴다
+    private Long signUp(String nickname) {
+        return memberService.signUp(objectMapper.convertValue(
+                Map.of("nickname", nickname, "password", "password"), SignUpRequest.class)).getId();
+    }
+
+    private Long createPost(Long memberId) {
+        Long tagId = tagRepository.findAll().get(0).getId();
+        return postService.createPost(memberId, objectMapper.convertValue(
+                Map.of("title", "title", "content", "content", "tagIds", List.of(tagId)),
+                PostCreateRequest.class)).getId();
+    }
+
+    private Long createComment(Long memberId, Long postId) {
+        return commentService.createComment(memberId, postId, objectMapper.convertValue(
+                Map.of("content", "comment"), CommentCreateRequest.class)).getId();
+    }
+
+    // 카운터는 벌크 UPDATE 로 바뀌므로 영속성 컨텍스트를 비워 DB 값을 읽는다
+    private void clear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
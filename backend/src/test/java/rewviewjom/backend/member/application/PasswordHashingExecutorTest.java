@@ -0,0 +1,90 @@
+package rewviewjom.backend.member.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import rewviewjom.backend.global.exception.BusinessException;
+import rewviewjom.backend.global.exception.ErrorCode;
+import rewviewjom.backend.global.exception.GlobalExceptionHandler;
+import rewviewjom.backend.global.response.ApiResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class PasswordHashingExecutorTest {
+
+    private final BlockingPasswordEncoder passwordEncoder = new BlockingPasswordEncoder();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.release.countDown();
+    }
+
+    @Test
+    void 해싱_스레드와_대기열이_가득_차면_503_과_Retry_After_로_거절한다() throws Exception {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(
+                passwordEncoder, meterRegistry, 1, 0, Duration.ofSeconds(5));
+        // 유일한 해싱 스레드를 점유해 둔다
+        CompletableFuture.runAsync(() -> executor.encode("first"));
+        assertThat(passwordEncoder.encoding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        BusinessException exception = catchThrowableOfType(BusinessException.class, () -> executor.encode("second"));
+
+        assertServerBusy(exception);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+        executor.destroy();
+    }
+
+    @Test
+    void 해싱이_시간_안에_끝나지_않으면_503_과_Retry_After_로_거절한다() {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(
+                passwordEncoder, meterRegistry, 1, 0, Duration.ofMillis(100));
+
+        BusinessException exception = catchThrowableOfType(BusinessException.class, () -> executor.encode("slow"));
+
+        assertServerBusy(exception);
+        executor.destroy();
+    }
+
+    private static void assertServerBusy(BusinessException exception) {
+        assertThat(exception).isNotNull();
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY);
+
+        ResponseEntity<ApiResponse<Void>> response = new GlobalExceptionHandler().handleBusinessException(exception);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    // release 전까지 해싱 스레드를 붙잡는 인코더
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch encoding = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            encoding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package rewviewjom.backend.post.application;
+
+import org.junit.jupiter.api.Test;
+import rewviewjom.backend.post.application.PostBitmapIndex.IdPage;
+import rewviewjom.backend.post.application.event.PostCreatedEvent;
+import rewviewjom.backend.post.application.event.PostDeletedEvent;
+import rewviewjom.backend.post.application.event.PostStatusChangedEvent;
+import rewviewjom.backend.post.application.event.PostUpdatedEvent;
+import rewviewjom.backend.post.domain.PostStatus;
+import rewviewjom.backend.post.domain.TagMatch;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 빌드(DB 적재) 없이 이벤트만으로 인덱스를 채워 검색과 유지보수를 검증한다
+class PostBitmapIndexTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final PostBitmapIndex index = new PostBitmapIndex(null, null);
+
+    @Test
+    void ANY_는_태그_중_하나라도_있는_게시글을_ALL_은_모두_있는_게시글을_찾는다() {
+        create(1L, PostStatus.UNSOLVED, 10L);
+        create(2L, PostStatus.UNSOLVED, 10L, 20L);
+        create(3L, PostStatus.UNSOLVED, 20L);
+        create(4L, PostStatus.UNSOLVED, 30L);
+
+        assertThat(search(null, TagMatch.ANY, 10L, 20L).postIds()).containsExactly(3L, 2L, 1L);
+        assertThat(search(null, TagMatch.ALL, 10L, 20L).postIds()).containsExactly(2L);
+        assertThat(search(null, TagMatch.ALL, 10L, 99L).postIds()).isEmpty();
+    }
+
+    @Test
+    void 태그_필터와_상태_필터를_함께_적용한다() {
+        create(1L, PostStatus.UNSOLVED, 10L);
+        create(2L, PostStatus.SOLVED, 10L);
+        create(3L, PostStatus.SOLVED, 20L);
+
+        assertThat(search(PostStatus.SOLVED, TagMatch.ANY, 10L).postIds()).containsExactly(2L);
+        assertThat(search(PostStatus.UNSOLVED, TagMatch.ANY, 10L).postIds()).containsExactly(1L);
+        assertThat(search(null, TagMatch.ANY, 10L).postIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 수정과_상태_변경은_게시글을_맨_앞으로_옮기고_삭제는_인덱스에서_뺀다() {
+        create(1L, PostStatus.UNSOLVED, 10L);
+        create(2L, PostStatus.UNSOLVED, 10L);
+        create(3L, PostStatus.UNSOLVED, 10L);
+
+        // 태그 변경: 10 -> 20, 수정 시각이 바뀌므로 맨 앞
+        index.on(new PostUpdatedEvent(1L, List.of(10L, 20L)));
+        assertThat(search(null, TagMatch.ANY, 10L).postIds()).containsExactly(1L, 3L, 2L);
+        assertThat(search(null, TagMatch.ANY, 20L).postIds()).containsExactly(1L);
+
+        index.on(new PostUpdatedEvent(1L, List.of(20L)));
+        assertThat(search(null, TagMatch.ANY, 10L).postIds()).containsExactly(3L, 2L);
+
+        // 상태 변경은 태그를 유지한 채 맨 앞으로
+        index.on(new PostStatusChangedEvent(2L, MEMBER_ID, PostStatus.UNSOLVED, PostStatus.SOLVED));
+        assertThat(search(null, TagMatch.ANY, 10L).postIds()).containsExactly(2L, 3L);
+        assertThat(search(PostStatus.SOLVED, TagMatch.ANY, 10L).postIds()).containsExactly(2L);
+        assertThat(search(PostStatus.UNSOLVED, TagMatch.ANY, 10L).postIds()).containsExactly(3L);
+
+        index.on(new PostDeletedEvent(3L, MEMBER_ID, PostStatus.UNSOLVED));
+        assertThat(search(null, TagMatch.ANY, 10L).postIds()).containsExactly(2L);
+        assertThat(search(PostStatus.UNSOLVED, TagMatch.ANY, 10L, 20L).postIds()).containsExactly(1L);
+    }
+
+    @Test
+    void offset_과_size_로_페이지를_자르고_전체_개수를_함께_반환한다() {
+        for (long postId = 1; postId <= 5; postId++) {
+            create(postId, PostStatus.UNSOLVED, 10L);
+        }
+
+        IdPage first = index.search(null, List.of(10L), TagMatch.ANY, 0, 2);
+        IdPage second = index.search(null, List.of(10L), TagMatch.ANY, 2, 2);
+        IdPage last = index.search(null, List.of(10L), TagMatch.ANY, 4, 2);
+        IdPage beyond = index.search(null, List.of(10L), TagMatch.ANY, 10, 2);
+
+        assertThat(first.postIds()).containsExactly(5L, 4L);
+        assertThat(second.postIds()).containsExactly(3L, 2L);
+        assertThat(last.postIds()).containsExactly(1L);
+        assertThat(beyond.postIds()).isEmpty();
+        assertThat(List.of(first, second, last, beyond))
+                .extracting(IdPage::totalElements)
+                .containsOnly(5L);
+    }
+
+    private void create(Long postId, PostStatus status, Long... tagIds) {
+        index.on(new PostCreatedEvent(postId, MEMBER_ID, status, List.of(tagIds)));
+    }
+
+    private IdPage search(PostStatus status, TagMatch tagMatch, Long... tagIds) {
+        return index.search(status, List.of(tagIds), tagMatch, 0, 10);
+    }
+}
@@ -0,0 +1,104 @@
+package rewviewjom.backend.post.application;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import rewviewjom.backend.global.response.PageResponse;
+import rewviewjom.backend.member.domain.Member;
+import rewviewjom.backend.member.domain.repository.MemberRepository;
+import rewviewjom.backend.post.application.dto.PostListResponse;
+import rewviewjom.backend.post.domain.Post;
+import rewviewjom.backend.post.domain.TagMatch;
+import rewviewjom.backend.post.domain.repository.PostRepository;
+import rewviewjom.backend.tag.domain.Tag;
+import rewviewjom.backend.tag.domain.repository.TagRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PostServiceTest {
+
+    private static final int POST_COUNT = 30;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostCountCache postCountCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .nickname("tester")
+                .password("password")
+                .build());
+        List<Tag> tags = tagRepository.findAll();
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = Post.builder()
+                    .member(member)
+                    .title("title" + i)
+                    .content("content" + i)
+                    .build();
+            tags.subList(0, 1 + i % 3).forEach(post::addTag);
+            postRepository.save(post);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        postCountCache.invalidateAll();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 10, 25})
+    void 게시글_목록_조회는_페이지_크기와_무관하게_쿼리_수가_고정된다(int size) {
+        PageResponse<PostListResponse> response =
+                postService.getPosts(null, null, null, TagMatch.ANY, false, PageRequest.of(0, size));
+
+        assertThat(response.getContent()).hasSize(size);
+        assertThat(response.getContent()).allSatisfy(post -> assertThat(post.getTags()).isNotEmpty());
+        // 게시글 페이지 + COUNT + 태그 IN 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    // 문장 수 단언은 운영과 같은 JDBC 배치 설정을 전제로 하므로, 테스트 설정이 어긋나면 먼저 알린다
+    @Test
+    void 테스트는_운영과_같은_JDBC_배치_설정으로_실행된다() {
+        Map<String, Object> properties = entityManager.getEntityManagerFactory().getProperties();
+
+        assertThat(String.valueOf(properties.get("hibernate.jdbc.batch_size"))).isEqualTo("50");
+        assertThat(String.valueOf(properties.get("hibernate.order_inserts"))).isEqualTo("true");
+        assertThat(String.valueOf(properties.get("hibernate.order_updates"))).isEqualTo("true");
+    }
+}
@@ -0,0 +1,74 @@
+package rewviewjom.backend.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import rewviewjom.backend.global.jwt.JwtTokenProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청 한 번이 실행하는 SQL 문장 수의 상한을 검증한다.
+ * <pre>
+ * request(get("/api/v1/posts").param("size", "50")).executesAtMost(3);
+ * </pre>
+ * 실제 트랜잭션 경계를 그대로 타도록 테스트 트랜잭션을 두지 않는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public abstract class QueryCountTestSupport {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected QueryCountAssertion request(MockHttpServletRequestBuilder request) {
+        return new QueryCountAssertion(request);
+    }
+
+    protected String bearer(Long memberId) {
+        return "Bearer " + jwtTokenProvider.createToken(memberId);
+    }
+
+    protected class QueryCountAssertion {
+
+        private final MockHttpServletRequestBuilder request;
+
+        private QueryCountAssertion(MockHttpServletRequestBuilder request) {
+            this.request = request;
+        }
+
+        // 2xx 응답과 문장 수 상한을 함께 검증하고, 비동기 응답은 완료될 때까지 dispatch 한다
+        public ResultActions executesAtMost(long maxStatements) throws Exception {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            ResultActions actions = mockMvc.perform(request);
+            MvcResult result = actions.andReturn();
+            if (result.getRequest().isAsyncStarted()) {
+                result.getAsyncResult();
+                actions = mockMvc.perform(asyncDispatch(result));
+            }
+            actions.andExpect(status().is2xxSuccessful());
+
+            assertThat(statistics.getPrepareStatementCount())
+                    .as("%s %s 의 SQL 문장 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(maxStatements);
+            return actions;
+        }
+    }
+}
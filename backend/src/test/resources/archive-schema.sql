@@ -0,0 +1,31 @@
+-- db/migration/V7__archive_tables.sql 의 아카이브 테이블 (H2)
+CREATE TABLE IF NOT EXISTS post_archive (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    member_id     BIGINT       NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    content       TEXT         NOT NULL,
+    excerpt       VARCHAR(200),
+    status        VARCHAR(20)  NOT NULL,
+    comment_count INT          NOT NULL,
+    revision      BIGINT       NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    archived_at   DATETIME(6)  NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS post_tag_archive (
+    id          BIGINT      NOT NULL PRIMARY KEY,
+    post_id     BIGINT      NOT NULL,
+    tag_id      BIGINT      NOT NULL,
+    archived_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS comment_archive (
+    id          BIGINT      NOT NULL PRIMARY KEY,
+    post_id     BIGINT      NOT NULL,
+    member_id   BIGINT      NOT NULL,
+    content     TEXT        NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL
+);
@@ -4,7 +4,7 @@ import { useEffect, useState, useCallback } from "react";
 import { useRouter } from "next/navigation";
 import { useAuth } from "@/lib/auth";
 import { api, ApiError } from "@/lib/api";
-import type { PostListResponse, PageResponse, MemberResponse } from "@/lib/types";
+import type { PostListResponse, PageResponse, MemberResponse, MemberStatsResponse } from "@/lib/types";
 import MyPageProfile from "@/components/MyPageProfile";
 import MyPageStats from "@/components/MyPageStats";
 import MyPageReviewList from "@/components/MyPageReviewList";
@@ -17,6 +17,7 @@ export default function MyPage() {
   const [page, setPage] = useState(0);
   const [data, setData] = useState<PageResponse<PostListResponse> | null>(null);
   const [postsLoading, setPostsLoading] = useState(true);
+  const [stats, setStats] = useState<MemberStatsResponse | null>(null);
 
   const fetchMyPosts = useCallback(async () => {
     setPostsLoading(true);
@@ -30,6 +31,14 @@ export default function MyPage() {
     }
   }, [page]);
 
+  const fetchStats = useCallback(async () => {
+    try {
+      setStats(await api.get<MemberStatsResponse>("/api/v1/members/me/stats"));
+    } catch {
+      setStats(null);
+    }
+  }, []);
+
   useEffect(() => {
     if (user) {
       setNickname(user.nickname);
@@ -37,6 +46,12 @@ export default function MyPage() {
     }
   }, [user, fetchMyPosts]);
 
+  useEffect(() => {
+    if (user) {
+      fetchStats();
+    }
+  }, [user, fetchStats]);
+
   if (isLoading) {
     return (
       <div className="mypage-container">
@@ -73,11 +88,6 @@ export default function MyPage() {
     }
   }
 
-  // Mocked stats — in a real app these come from an API
-  const totalReviews = data?.totalElements ?? 0;
-  const resolvedCount = data?.content.filter((p) => p.status === "SOLVED").length ?? 0;
-  const totalComments = data?.content.reduce((sum, p) => sum + (p.commentCount ?? 0), 0) ?? 0;
-
   return (
     <div className="mypage-container">
       {/* Header */}
@@ -101,9 +111,9 @@ export default function MyPage() {
         {/* Right — Stats + Reviews */}
         <div>
           <MyPageStats
-            reviewCount={totalReviews}
-            resolvedCount={resolvedCount}
-            commentCount={totalComments}
+            reviewCount={stats?.totalPosts ?? 0}
+            resolvedCount={stats?.solvedPosts ?? 0}
+            commentCount={stats?.commentsReceived ?? 0}
           />
           <MyPageReviewList
             data={data}
@@ -2,10 +2,21 @@
 
 import { useEffect, useState, useCallback } from "react";
 import type { CommentResponse } from "@/lib/types";
-import { api, ApiError } from "@/lib/api";
+import { api, ApiError, subscribe } from "@/lib/api";
 import { useAuth } from "@/lib/auth";
 import CommentItem from "./CommentItem";
 
+// 서버 푸시(created/updated/deleted)와 내가 작성한 댓글을 목록에 반영
+function applyComment(comments: CommentResponse[], event: string, comment: CommentResponse): CommentResponse[] {
+  if (event === "deleted") {
+    return comments.filter((c) => c.id !== comment.id);
+  }
+  if (comments.some((c) => c.id === comment.id)) {
+    return comments.map((c) => (c.id === comment.id ? comment : c));
+  }
+  return event === "created" ? [...comments, comment] : comments;
+}
+
 export default function CommentSection({ postId, postAuthorId }: { postId: number; postAuthorId: number }) {
   const { user } = useAuth();
   const [comments, setComments] = useState<CommentResponse[]>([]);
@@ -26,15 +37,27 @@ export default function CommentSection({ postId, postAuthorId }: { postId: numbe
     fetchComments();
   }, [fetchComments]);
 
+  useEffect(() => {
+    if (!user) return;
+    return subscribe(
+      `/api/v1/posts/${postId}/comments/subscribe`,
+      ({ event, data }) => {
+        const comment = JSON.parse(data) as CommentResponse;
+        setComments((prev) => applyComment(prev, event, comment));
+      },
+      fetchComments,
+    );
+  }, [user, postId, fetchComments]);
+
   async function handleSubmit(e: React.FormEvent) {
     e.preventDefault();
     if (!content.trim()) return;
     setError("");
     setSubmitting(true);
     try {
-      await api.post(`/api/v1/posts/${postId}/comments`, { content });
+      const created = await api.post<CommentResponse>(`/api/v1/posts/${postId}/comments`, { content });
       setContent("");
-      fetchComments();
+      setComments((prev) => applyComment(prev, "created", created));
     } catch (err) {
       setError(err instanceof ApiError ? err.message : "댓글 작성에 실패했습니다.");
     } finally {
@@ -66,6 +66,23 @@ export default function PostCard({ post }: { post: PostListResponse }) {
         {post.title || "(제목 없음)"}
       </h3>
 
+      {/* excerpt */}
+      {post.excerpt && (
+        <p
+          style={{
+            fontSize: "0.85rem",
+            color: "var(--muted)",
+            margin: "-0.35rem 0 0.75rem",
+            lineHeight: 1.5,
+            overflow: "hidden",
+            textOverflow: "ellipsis",
+            whiteSpace: "nowrap",
+          }}
+        >
+          {post.excerpt}
+        </p>
+      )}
+
       {/* tags + comments */}
       <div style={{ display: "flex", justifyContent: "space-between", alignItems: "center" }}>
         <div style={{ display: "flex", flexWrap: "wrap", gap: "0.35rem" }}>
@@ -83,3 +83,74 @@ export const api = {
     return fetchApi<void>(url, { method: "DELETE" });
   },
 };
+
+export interface StreamEvent {
+  event: string;
+  data: string;
+}
+
+const STREAM_RETRY_MIN_MS = 1000;
+const STREAM_RETRY_MAX_MS = 30000;
+
+// EventSource 는 Authorization 헤더를 보낼 수 없어 fetch 스트림으로 SSE 를 읽는다.
+// 연결이 끊기면 지수 백오프로 재연결하고, 재연결 때마다 onReconnect 로 놓친 변경을 다시 받게 한다.
+export function subscribe(
+  url: string,
+  onEvent: (event: StreamEvent) => void,
+  onReconnect?: () => void,
+): () => void {
+  const controller = new AbortController();
+  let retryMs = STREAM_RETRY_MIN_MS;
+  let connected = false;
+
+  async function readEvents(body: ReadableStream<Uint8Array>) {
+    const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = "";
+    for (;;) {
+      const { value, done } = await reader.read();
+      if (done) return;
+      buffer += value;
+      let boundary;
+      while ((boundary = buffer.indexOf("\n\n")) >= 0) {
+        const block = buffer.slice(0, boundary);
+        buffer = buffer.slice(boundary + 2);
+        let event = "message";
+        const data: string[] = [];
+        for (const line of block.split("\n")) {
+          if (line.startsWith("event:")) event = line.slice(6).trim();
+          else if (line.startsWith("data:")) data.push(line.slice(5).replace(/^ /, ""));
+        }
+        if (data.length > 0) onEvent({ event, data: data.join("\n") });
+      }
+    }
+  }
+
+  async function connect() {
+    while (!controller.signal.aborted) {
+      try {
+        const token = getToken();
+        const res = await fetch(url, {
+          headers: {
+            Accept: "text/event-stream",
+            ...(token ? { Authorization: `Bearer ${token}` } : {}),
+          },
+          signal: controller.signal,
+        });
+        if (res.status === 401) return;
+        if (res.ok && res.body) {
+          if (connected) onReconnect?.();
+          connected = true;
+          retryMs = STREAM_RETRY_MIN_MS;
+          await readEvents(res.body);
+        }
+      } catch {
+        if (controller.signal.aborted) return;
+      }
+      await new Promise((resolve) => setTimeout(resolve, retryMs));
+      retryMs = Math.min(retryMs * 2, STREAM_RETRY_MAX_MS);
+    }
+  }
+
+  connect();
+  return () => controller.abort();
+}
@@ -18,6 +18,7 @@ export interface PageResponse<T> {
   totalPages: number;
   hasNext: boolean;
   hasPrevious: boolean;
+  approximateTotal: boolean;
 }
 
 // === Member ===
@@ -28,6 +29,13 @@ export interface MemberResponse {
   createdAt: string;
 }
 
+export interface MemberStatsResponse {
+  totalPosts: number;
+  solvedPosts: number;
+  commentsReceived: number;
+  commentsWritten: number;
+}
+
 export interface LoginResponse {
   accessToken: string;
   member: MemberResponse;
@@ -55,6 +63,7 @@ export interface PostResponse {
 export interface PostListResponse {
   id: number;
   title: string;
+  excerpt: string | null;
   status: PostStatus;
   commentCount: number;
   member: MemberResponse;